@@ -1,19 +1,43 @@
 package com.zeepseek.backend.config;
 
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.zeepseek.backend.config.cache.TwoLevelCacheManager;
+import com.zeepseek.backend.domain.property.model.Property;
+import com.zeepseek.backend.domain.zzim.service.LikedSetRedisSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableCaching
@@ -29,10 +53,19 @@ public class RedisConfig {
         return new LettuceConnectionFactory("property_redis", 6379);
     }
 
+    /**
+     * 매물 캐시: 노드 내부 Caffeine(L1) + property redis(L2) 2단 캐시
+     * - L2 TTL 기본 20분, 캐시별로 cache.redis.ttl.{name} (Duration) 로 변경
+     * - L1 은 cache.local.spec.{name} (Caffeine spec) 로 크기/TTL 지정, 없으면 cache.local.default-spec
+     */
     @Bean
     @Primary
-    public CacheManager propertyCacheManager(
-            @Qualifier("propertyredisConnectionFactory") RedisConnectionFactory connectionFactory) {
+    public TwoLevelCacheManager propertyCacheManager(
+            @Qualifier("propertyredisConnectionFactory") RedisConnectionFactory connectionFactory,
+            StringRedisTemplate stringRedisTemplate,
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${cache.local.default-spec:maximumSize=1000,expireAfterWrite=60s}") String defaultLocalSpec) {
         // 캐시 엔트리 TTL을 20분으로 설정하고 JSON 직렬화를 사용합니다.
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(20))
@@ -41,9 +74,100 @@ public class RedisConfig {
                         RedisSerializationContext.SerializationPair
                                 .fromSerializer(new GenericJackson2JsonRedisSerializer())
                 );
-        return RedisCacheManager.builder(connectionFactory)
+        Binder binder = Binder.get(environment);
+        Map<String, Duration> remoteTtls = binder.bind("cache.redis.ttl", Bindable.mapOf(String.class, Duration.class))
+                .orElse(Map.of());
+        Map<String, String> localSpecs = binder.bind("cache.local.spec", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+
+        Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
+        remoteTtls.forEach((name, ttl) -> cacheConfigs.put(name, config.entryTtl(ttl)));
+        // 타일별 매물 카드(PropertyCardDto) 목록 캐시는 허용한 패키지의 타입 정보만 받는 직렬화 사용
+        cacheConfigs.put("propertyTiles",
+                entityCacheConfig(remoteTtls.getOrDefault("propertyTiles", Duration.ofMinutes(20))));
+        // 사용자별 찜 집합은 JSON 대신 RoaringBitmap 바이트로 저장
+        cacheConfigs.put("likedSets", config
+                .entryTtl(remoteTtls.getOrDefault("likedSets", Duration.ofMinutes(20)))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair
+                        .fromSerializer(new LikedSetRedisSerializer())));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
+                .withInitialCacheConfigurations(cacheConfigs)
+                .build();
+        redisCacheManager.afterPropertiesSet();
+        return new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate, localSpecs, defaultLocalSpec,
+                meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * 다른 노드에서 발행한 캐시 무효화 메시지를 받아 L1 캐시를 지웁니다.
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            @Qualifier("propertyredisConnectionFactory") RedisConnectionFactory connectionFactory,
+            TwoLevelCacheManager propertyCacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(propertyCacheManager, new ChannelTopic(TwoLevelCacheManager.CHANNEL));
+        return container;
+    }
+
+    /**
+     * 매물 상세 캐시(PropertyDetailCacheService) 전용 RedisTemplate
+     * 값 타입이 Property 로 고정되어 있으므로 타입 정보 없이 직렬화합니다.
+     */
+    @Bean(name = "propertyDetailRedisTemplate")
+    public RedisTemplate<String, Property> propertyDetailRedisTemplate(
+            @Qualifier("propertyredisConnectionFactory") RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, Property> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new Jackson2JsonRedisSerializer<>(javaTimeObjectMapper(), Property.class));
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    /**
+     * 직렬화된 응답 바이트 캐시(ResponseBytesCache) 전용 RedisTemplate
+     * 값은 gzip 으로 압축된 JSON 바이트를 그대로 저장합니다.
+     */
+    @Bean(name = "responseBytesRedisTemplate")
+    public RedisTemplate<String, byte[]> responseBytesRedisTemplate(
+            @Qualifier("propertyredisConnectionFactory") RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    /**
+     * 애플리케이션 DTO 를 그대로 저장하는 캐시용 설정 (타입 정보 + java.time 지원)
+     * Redis 값의 타입 정보로 임의 클래스가 만들어지지 않도록 com.zeepseek.backend, java.util 하위 타입만 허용합니다.
+     */
+    private RedisCacheConfiguration entityCacheConfig(Duration ttl) {
+        ObjectMapper mapper = javaTimeObjectMapper();
+        PolymorphicTypeValidator typeValidator = BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("com.zeepseek.backend.")
+                .allowIfSubType("java.util.")
                 .build();
+        mapper.activateDefaultTyping(typeValidator, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ttl)
+                .disableCachingNullValues()
+                .serializeValuesWith(
+                        RedisSerializationContext.SerializationPair
+                                .fromSerializer(new GenericJackson2JsonRedisSerializer(mapper))
+                );
+    }
+
+    private static ObjectMapper javaTimeObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return mapper;
     }
 
     /**
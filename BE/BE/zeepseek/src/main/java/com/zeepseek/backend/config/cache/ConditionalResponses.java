@@ -0,0 +1,36 @@
+package com.zeepseek.backend.config.cache;
+
+import com.zeepseek.backend.config.version.ETags;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * 데이터 버전 ETag(DataVersionService) 기반 조건부 GET 응답
+ *
+ * If-None-Match 가 etag 와 같으면 loader 를 호출하지 않고 304 를 반환하고,
+ * 아니면 loader 결과를 ETag 와 함께 200 으로 반환합니다. (loader 가 null 을 반환하면 404)
+ * 버전 조회에 실패한 경우(etag == null)에는 검증 없이 ETag 없이 응답합니다.
+ * 바이트 캐시를 쓰는 응답은 gzip 표현의 ETag 를 따로 다뤄야 하므로 ResponseBytesCache.respond 를 사용합니다.
+ */
+public final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    public static <T> ResponseEntity<T> respond(String etag, String ifNoneMatch, Supplier<T> loader) {
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        T body = loader.get();
+        if (body == null) {
+            return ResponseEntity.notFound().build();
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (etag != null) {
+            builder.eTag(etag);
+        }
+        return builder.body(body);
+    }
+}
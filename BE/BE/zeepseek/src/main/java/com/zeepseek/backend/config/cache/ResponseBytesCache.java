@@ -0,0 +1,290 @@
+package com.zeepseek.backend.config.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import com.zeepseek.backend.config.version.ETags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화가 끝난 JSON 응답 바이트(UTF-8 원본 + gzip) 캐시
+ *
+ * - 키는 {엔드포인트/파라미터 키}:{버전 ETag} 이므로 데이터 버전이 바뀌면 새 키가 되고, 이전 항목은 TTL 로 사라집니다.
+ * - L1: 노드 내부 Caffeine (바이트 크기 기준 최대 용량), L2: property redis (gzip 바이트만 저장)
+ * - 응답은 byte[] 그대로 출력 스트림에 쓰므로 객체 역직렬화/재직렬화가 없습니다.
+ * - gzip 표현은 원본과 다른 ETag("{etag}-gz")를 쓰고, 조건부 요청은 두 ETag 모두 받아들입니다.
+ * ETag 가 없으면(버전 조회 실패) 캐시하지 않고 바로 직렬화해 응답합니다.
+ *
+ * 메트릭: response-cache.requests (result=local|remote|miss)
+ */
+@Slf4j
+@Component
+public class ResponseBytesCache {
+
+    private static final String KEY_PREFIX = "response:";
+    private static final String GZIP_ETAG_SUFFIX = "-gz";
+
+    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final Duration ttl;
+    private final Cache<String, EncodedBody> local;
+    private final Counter localHitCounter;
+    private final Counter remoteHitCounter;
+    private final Counter missCounter;
+
+    public ResponseBytesCache(ObjectMapper objectMapper,
+                              @Qualifier("responseBytesRedisTemplate") RedisTemplate<String, byte[]> redisTemplate,
+                              @Value("${response-cache.ttl:30m}") Duration ttl,
+                              @Value("${response-cache.local.max-bytes:67108864}") long localMaxBytes,
+                              MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.local = Caffeine.newBuilder()
+                .maximumWeight(localMaxBytes)
+                .weigher((String key, EncodedBody value) -> value.weight())
+                .expireAfterWrite(ttl)
+                .build();
+        this.localHitCounter = meterRegistry.counter("response-cache.requests", "result", "local");
+        this.remoteHitCounter = meterRegistry.counter("response-cache.requests", "result", "remote");
+        this.missCounter = meterRegistry.counter("response-cache.requests", "result", "miss");
+    }
+
+    /**
+     * 캐시된 바이트로 응답을 만듭니다. 없으면 loader 결과를 한 번 직렬화해 저장합니다.
+     * If-None-Match 가 (원본 또는 gzip) ETag 와 같으면 본문을 조회/직렬화하지 않고 304 를 반환합니다.
+     *
+     * @param key            엔드포인트 + 파라미터 (버전은 etag 로 구분)
+     * @param etag           데이터 버전 ETag (null 이면 캐시/검증하지 않음)
+     * @param ifNoneMatch    요청의 If-None-Match
+     * @param acceptEncoding 요청의 Accept-Encoding (gzip 을 q > 0 으로 허용하면 gzip 바이트로 응답)
+     */
+    public ResponseEntity<byte[]> respond(String key, String etag, String ifNoneMatch, String acceptEncoding,
+                                          Supplier<?> loader) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (isNotModified(etag, ifNoneMatch)) {
+            return notModified(etag, gzip);
+        }
+        EncodedBody body;
+        if (etag == null) {
+            body = EncodedBody.of(serialize(loader.get()));
+        } else {
+            String cacheKey = KEY_PREFIX + key + ":" + etag;
+            EncodedBody cached = local.getIfPresent(cacheKey);
+            if (cached != null) {
+                localHitCounter.increment();
+                body = cached;
+            } else {
+                body = local.get(cacheKey, k -> loadRemoteOrBuild(k, loader));
+            }
+        }
+        return ok(body, MediaType.APPLICATION_JSON, etag, gzip);
+    }
+
+    /**
+     * 미리 인코딩해 둔 바이트(원본 + gzip)를 같은 방식(ETag / Accept-Encoding)으로 응답합니다.
+     *
+     * @param vary Accept-Encoding 외에 응답이 달라지는 요청 헤더 (예: Accept)
+     */
+    public static ResponseEntity<byte[]> respond(EncodedBody body, MediaType contentType, String etag,
+                                                 String ifNoneMatch, String acceptEncoding, String... vary) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (isNotModified(etag, ifNoneMatch)) {
+            return notModified(etag, gzip, vary);
+        }
+        return ok(body, contentType, etag, gzip, vary);
+    }
+
+    private static boolean isNotModified(String etag, String ifNoneMatch) {
+        return etag != null && (ETags.matches(ifNoneMatch, etag) || ETags.matches(ifNoneMatch, gzipEtag(etag)));
+    }
+
+    // 304 에는 200 이었다면 보냈을 표현(원본/gzip)의 ETag 와 Vary 를 함께 보냅니다.
+    private static ResponseEntity<byte[]> notModified(String etag, boolean gzip, String... vary) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(gzip ? gzipEtag(etag) : etag)
+                .varyBy(varyHeaders(vary))
+                .build();
+    }
+
+    private static ResponseEntity<byte[]> ok(EncodedBody body, MediaType contentType, String etag, boolean gzip,
+                                             String... vary) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(contentType)
+                .varyBy(varyHeaders(vary));
+        if (gzip) {
+            if (etag != null) {
+                builder.eTag(gzipEtag(etag));
+            }
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        if (etag != null) {
+            builder.eTag(etag);
+        }
+        return builder.body(body.raw());
+    }
+
+    private static String[] varyHeaders(String... vary) {
+        String[] headers = Arrays.copyOf(vary, vary.length + 1);
+        headers[vary.length] = HttpHeaders.ACCEPT_ENCODING;
+        return headers;
+    }
+
+    /**
+     * gzip 표현의 ETag: 원본과 바이트가 다르므로 다른 강한 검증자를 사용합니다. ("v-1-2" -> "v-1-2-gz")
+     */
+    static String gzipEtag(String etag) {
+        return etag.endsWith("\"")
+                ? etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\""
+                : etag + GZIP_ETAG_SUFFIX;
+    }
+
+    /**
+     * Accept-Encoding 에서 gzip 의 q 값이 0 보다 큰지 확인합니다.
+     * gzip(x-gzip) 이 명시되어 있으면 그 q 값을, 없으면 * 의 q 값을 따르며, 둘 다 없으면 허용하지 않습니다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzipQ = -1;
+        double anyQ = -1;
+        for (String item : acceptEncoding.split(",")) {
+            String[] parts = item.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQ = Math.max(gzipQ, qValue(parts));
+            } else if (coding.equals("*")) {
+                anyQ = Math.max(anyQ, qValue(parts));
+            }
+        }
+        return gzipQ >= 0 ? gzipQ > 0 : anyQ > 0;
+    }
+
+    // q 파라미터가 없으면 1, 형식이 잘못되었으면 0 (허용하지 않음)
+    private static double qValue(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    double q = Double.parseDouble(param.substring(2).trim());
+                    return q >= 0 && q <= 1 ? q : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private EncodedBody loadRemoteOrBuild(String cacheKey, Supplier<?> loader) {
+        byte[] gzip = remoteGet(cacheKey);
+        if (gzip != null) {
+            remoteHitCounter.increment();
+            return EncodedBody.ofGzip(gzip);
+        }
+        missCounter.increment();
+        EncodedBody built = EncodedBody.of(serialize(loader.get()));
+        remoteSet(cacheKey, built.gzip());
+        return built;
+    }
+
+    private byte[] remoteGet(String cacheKey) {
+        try {
+            return redisTemplate.opsForValue().get(cacheKey);
+        } catch (Exception e) {
+            log.warn("응답 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void remoteSet(String cacheKey, byte[] gzip) {
+        try {
+            redisTemplate.opsForValue().set(cacheKey, gzip, ttl);
+        } catch (Exception e) {
+            log.warn("응답 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 한 응답의 원본/gzip 바이트 (불변)
+     * 두 배열을 만들 때 함께 만들어 두므로 캐시 용량(weight)은 실제로 보관하는 바이트 수와 같습니다.
+     */
+    public static final class EncodedBody {
+        private final byte[] raw;
+        private final byte[] gzip;
+
+        private EncodedBody(byte[] raw, byte[] gzip) {
+            this.raw = raw;
+            this.gzip = gzip;
+        }
+
+        public static EncodedBody of(byte[] raw) {
+            return new EncodedBody(raw, gzip(raw));
+        }
+
+        static EncodedBody ofGzip(byte[] gzip) {
+            return new EncodedBody(gunzip(gzip), gzip);
+        }
+
+        public byte[] raw() {
+            return raw;
+        }
+
+        public byte[] gzip() {
+            return gzip;
+        }
+
+        int weight() {
+            return (int) Math.min(Integer.MAX_VALUE, (long) raw.length + gzip.length);
+        }
+
+        private static byte[] gzip(byte[] raw) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+                out.write(raw);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return bytes.toByteArray();
+        }
+
+        private static byte[] gunzip(byte[] gzip) {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.zeepseek.backend.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis CacheManager(L2) 앞에 캐시별 Caffeine(L1) 을 두는 CacheManager
+ *
+ * L1 설정은 캐시 이름별 Caffeine spec 문자열(cache.local.spec.{name})을 사용하고, 없으면 기본 spec 을 사용합니다.
+ * 변경/무효화는 Redis pub/sub 채널(CHANNEL)로 다른 노드에 전달되어 각 노드의 L1 을 지웁니다.
+ * 메시지 형식: {nodeId}|E|{cacheName}|{key} (키 제거) 또는 {nodeId}|C|{cacheName} (전체 제거)
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String CHANNEL = "cache:invalidation";
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final Map<String, String> localSpecs;
+    private final String defaultLocalSpec;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, StringRedisTemplate redisTemplate,
+                                Map<String, String> localSpecs, String defaultLocalSpec, MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.localSpecs = localSpecs;
+        this.defaultLocalSpec = defaultLocalSpec;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> createCache(n, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    private TwoLevelCache createCache(String name, Cache remote) {
+        String spec = localSpecs.getOrDefault(name, defaultLocalSpec);
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.from(spec).recordStats().build();
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, local, name + ".local");
+        }
+        log.info("2단 캐시 생성: {} (L1 spec: {})", name, spec);
+        return new TwoLevelCache(name, local, remote, this);
+    }
+
+    void publishEvict(String cacheName, Object key) {
+        publish(nodeId + "|E|" + cacheName + "|" + key);
+    }
+
+    void publishClear(String cacheName) {
+        publish(nodeId + "|C|" + cacheName);
+    }
+
+    // 무효화 메시지 발행 실패는 L1 TTL 이 지나면 해소되므로 캐시 동작을 막지 않습니다.
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        if ("C".equals(parts[1])) {
+            cache.clearLocal();
+        } else if ("E".equals(parts[1]) && parts.length == 4) {
+            cache.evictLocal(parts[3]);
+        }
+    }
+}
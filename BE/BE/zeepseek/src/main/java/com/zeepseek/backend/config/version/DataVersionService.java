@@ -0,0 +1,76 @@
+package com.zeepseek.backend.config.version;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 조회 API 의 HTTP 검증자(ETag)용 데이터 버전 카운터
+ *
+ * property redis 의 해시(KEY) 필드 하나가 버전 하나이며, 데이터가 바뀌면 bump 로 1 씩 증가시킵니다.
+ * 노드 간에 공유되므로 어느 노드에서 변경을 감지해도 모든 노드의 ETag 가 바뀝니다.
+ * 버전만 읽으므로 304 응답에는 MySQL / Mongo / 캐시 본문 조회가 필요 없습니다.
+ * Redis 장애 시 etag 는 null 을 반환하며, 호출하는 쪽은 검증 없이 200 으로 응답합니다.
+ */
+@Slf4j
+@Service
+public class DataVersionService {
+
+    private static final String KEY = "data:version";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public DataVersionService(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 버전 필드 값들로 만든 강한 ETag (예: "p-3-17"), 조회 실패 시 null
+     *
+     * @param prefix 응답 종류 구분자 (같은 버전 조합을 쓰는 다른 응답과 구분)
+     * @param fields 응답이 의존하는 버전 필드들 (순서대로 ETag 에 들어감)
+     */
+    public String etag(String prefix, String... fields) {
+        try {
+            List<Object> values = redisTemplate.opsForHash().multiGet(KEY, Arrays.asList(fields));
+            StringBuilder etag = new StringBuilder("\"").append(prefix);
+            for (Object value : values) {
+                etag.append('-').append(value != null ? value : "0");
+            }
+            return etag.append('"').toString();
+        } catch (Exception e) {
+            log.warn("데이터 버전 조회 실패, 검증 없이 응답합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 버전 필드들을 1 씩 증가 (HINCRBY 파이프라인)
+     */
+    public void bump(Collection<String> fields) {
+        if (fields.isEmpty()) {
+            return;
+        }
+        byte[] key = KEY.getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String field : fields) {
+                    connection.hashCommands().hIncrBy(key, field.getBytes(StandardCharsets.UTF_8), 1);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("데이터 버전 증가 실패: {} ({})", fields, e.getMessage());
+        }
+    }
+
+    public void bump(String... fields) {
+        bump(Arrays.asList(fields));
+    }
+}
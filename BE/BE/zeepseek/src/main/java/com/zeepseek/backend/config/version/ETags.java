@@ -0,0 +1,23 @@
+package com.zeepseek.backend.config.version;
+
+/**
+ * If-None-Match 헤더 비교 (강한 비교, 목록/와일드카드 지원)
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
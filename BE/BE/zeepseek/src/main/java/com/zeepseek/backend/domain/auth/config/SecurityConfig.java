@@ -5,6 +5,7 @@ import com.zeepseek.backend.domain.auth.security.jwt.JwtTokenProvider;
 import com.zeepseek.backend.domain.auth.security.oauth2.CustomOAuth2UserService;
 import com.zeepseek.backend.domain.auth.security.oauth2.OAuth2AuthenticationFailureHandler;
 import com.zeepseek.backend.domain.auth.security.oauth2.OAuth2AuthenticationSuccessHandler;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -40,6 +41,9 @@ public class SecurityConfig {
                 .formLogin(formLogin -> formLogin.disable())
                 .httpBasic(httpBasic -> httpBasic.disable())
                 .authorizeHttpRequests(authorize -> authorize
+                        // 비동기(Mono 반환) 응답의 재디스패치는 최초 요청에서 이미 인가를 거쳤으므로 허용
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 로그인 불필요 엔드포인트 - 인증없이 접근 가능
 
                         // 인증 관련 엔드포인트
@@ -48,6 +52,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/v1/auth/random-nickname").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/refresh").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/admin").permitAll()
+                        // 회원 희망 목적지 기준 도보 검색은 로그인 필요 (property 허용 규칙보다 먼저 매칭)
+                        .requestMatchers(HttpMethod.GET, "/api/v1/property/commute").authenticated()
                         // property 하위 모든 엔드포인트 허용
                         .requestMatchers("/api/v1/property/**").permitAll()
 
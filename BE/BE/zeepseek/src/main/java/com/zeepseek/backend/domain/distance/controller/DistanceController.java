@@ -1,14 +1,17 @@
 package com.zeepseek.backend.domain.distance.controller;
 
+import com.zeepseek.backend.domain.auth.security.UserPrincipal;
 import com.zeepseek.backend.domain.distance.dto.request.CoordinateInfo;
+import com.zeepseek.backend.domain.distance.dto.request.DistanceMatrixRequest;
 import com.zeepseek.backend.domain.distance.dto.response.CoordinateResponse;
-import com.zeepseek.backend.domain.distance.dto.response.TransitResponse;
 import com.zeepseek.backend.domain.distance.service.DistanceService;
 import com.zeepseek.backend.domain.user.entity.UserPreferences;
 import com.zeepseek.backend.domain.user.repository.UserPreferencesRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,8 +28,9 @@ public class DistanceController {
     }
 
     //전희성 추가 : 시작지와 도착지 간 도보 및 대중교통 시간 호출 엔드포인트 추가
+    // 외부 API 응답을 기다리는 동안 서블릿 스레드를 점유하지 않도록 Mono 로 반환 (비동기 처리)
     @GetMapping("/property-transit")
-    public ResponseEntity<?> getPropertyTransitInfo(
+    public Mono<ResponseEntity<?>> getPropertyTransitInfo(
             @RequestParam Integer userId,  // 여기서 userId는 PK로 직접 사용 가능
             @RequestParam double propertyLat,
             @RequestParam double propertyLon) {
@@ -38,19 +42,76 @@ public class DistanceController {
         if (userPreferences == null ||
                 userPreferences.getLatitude() == null ||
                 userPreferences.getLongitude() == null) {
-            return ResponseEntity.badRequest().body("User destination not set");
+            return Mono.just(ResponseEntity.badRequest().body("User destination not set"));
         }
 
+        String destination = userPreferences.getDestination() != null ?
+                userPreferences.getDestination() : "";
+
         // 카카오 API 호출
-        TransitResponse response = distanceService.getTransitInfo(
-                propertyLat,
-                propertyLon,
-                userPreferences.getLatitude(),
-                userPreferences.getLongitude());
+        return distanceService.getTransitInfoAsync(
+                        propertyLat,
+                        propertyLon,
+                        userPreferences.getLatitude(),
+                        userPreferences.getLongitude())
+                .map(response -> {
+                    response.setDestination(destination);
+                    return ResponseEntity.ok(response);
+                });
+    }
+
+    /**
+     * 한 지점 <-> 여러 지점 이동 시간 행렬 (한 페이지 매물의 통근 시간 비교 등)
+     * POST /api/v1/distance/matrix
+     * Body: { "lats": [...], "lons": [...], "reverse": true, "transit": true, "driving": false }
+     * 응답 배열은 요청한 지점 순서와 같습니다.
+     * origin 을 생략하면 로그인한 회원(JWT) 본인의 희망 목적지를 사용합니다. (다른 회원의 목적지는 조회할 수 없음)
+     */
+    @PostMapping("/matrix")
+    public Mono<ResponseEntity<?>> getDistanceMatrix(@RequestBody DistanceMatrixRequest request,
+                                                     @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        double[] lats = request.getLats();
+        double[] lons = request.getLons();
+        if (lats == null || lons == null || lats.length != lons.length) {
+            return Mono.just(ResponseEntity.badRequest().body("lats and lons must have the same length"));
+        }
+        if (lats.length > distanceService.getMatrixMaxPoints()) {
+            return Mono.just(ResponseEntity.badRequest().body("Too many points: " + lats.length));
+        }
+        for (int i = 0; i < lats.length; i++) {
+            if (!isValidCoordinate(lats[i], lons[i])) {
+                return Mono.just(ResponseEntity.badRequest().body("Invalid coordinate at index " + i));
+            }
+        }
 
-        response.setDestination(userPreferences.getDestination() != null ?
-                userPreferences.getDestination() : "");
+        Double originLat = request.getOriginLat();
+        Double originLon = request.getOriginLon();
+        if ((originLat == null || originLon == null)
+                && userPrincipal != null && userPrincipal.getId() != null) {
+            // origin 을 생략하면 로그인한 회원 본인의 희망 목적지를 사용
+            UserPreferences userPreferences = userPreferencesRepository.findById(userPrincipal.getId())
+                    .orElse(null);
+            if (userPreferences != null) {
+                originLat = userPreferences.getLatitude();
+                originLon = userPreferences.getLongitude();
+            }
+        }
+        if (originLat == null || originLon == null) {
+            return Mono.just(ResponseEntity.badRequest().body("Origin not set"));
+        }
+        if (!isValidCoordinate(originLat, originLon)) {
+            return Mono.just(ResponseEntity.badRequest().body("Invalid origin coordinate"));
+        }
+
+        // 외부 API 응답을 기다리는 동안 서블릿 스레드를 점유하지 않도록 Mono 로 반환 (비동기 처리)
+        return distanceService.getDistanceMatrix(originLat, originLon,
+                        lats, lons, request.isReverse(), request.isTransit(), request.isDriving())
+                .map(ResponseEntity::ok);
+    }
 
-        return ResponseEntity.ok(response);
+    // 유한한 값이고 위도 [-90, 90], 경도 [-180, 180] 범위인지
+    private static boolean isValidCoordinate(double lat, double lon) {
+        return Double.isFinite(lat) && Double.isFinite(lon)
+                && lat >= -90 && lat <= 90 && lon >= -180 && lon <= 180;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.zeepseek.backend.domain.distance.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 한 지점(origin) <-> 여러 지점(lats[i], lons[i]) 이동 시간 조회
+ * - reverse=false: origin -> 각 지점, reverse=true: 각 지점 -> origin (매물 -> 목적지 통근 비교 등)
+ * - originLat/originLon 을 생략하면 로그인한 회원(JWT) 본인의 희망 목적지를 origin 으로 사용합니다.
+ * - transit / driving 이 true 인 경우에만 외부 API(TMap, 카카오모빌리티)를 호출합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DistanceMatrixRequest {
+    Double originLat;
+    Double originLon;
+
+    double[] lats;
+    double[] lons;
+
+    boolean reverse;
+    boolean transit;
+    boolean driving;
+}
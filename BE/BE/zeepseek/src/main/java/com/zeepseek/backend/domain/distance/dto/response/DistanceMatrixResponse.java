@@ -0,0 +1,18 @@
+package com.zeepseek.backend.domain.distance.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 요청한 지점 순서와 같은 순서의 이동 시간 배열 (단위: 초)
+ * 외부 API 조회에 실패한 칸은 -1, 요청하지 않은 종류(transit / driving)는 응답에서 생략됩니다.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DistanceMatrixResponse {
+    private int[] walking;
+    private int[] transit;
+    private int[] driving;
+}
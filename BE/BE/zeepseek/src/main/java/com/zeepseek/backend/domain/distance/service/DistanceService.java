@@ -2,24 +2,35 @@ package com.zeepseek.backend.domain.distance.service;
 
 import com.zeepseek.backend.domain.distance.dto.request.CoordinateInfo;
 import com.zeepseek.backend.domain.distance.dto.response.CoordinateResponse;
+import com.zeepseek.backend.domain.distance.dto.response.DistanceMatrixResponse;
 import com.zeepseek.backend.domain.distance.dto.response.TransitResponse;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
-
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
@@ -27,6 +38,9 @@ public class DistanceService {
 
     final double R = 6371; // 지구의 반지름 (킬로미터)
 
+    // 도보 시간 계산에 사용하는 걷는 속도 (km/h)
+    public static final double WALKING_SPEED_KMH = 5.0;
+
     // 전희성 추가 : RestAPI 및 webclient 추가 시작
 
     // 생성자 주입 방식 사용 (추천 방법: 1번)
@@ -35,12 +49,37 @@ public class DistanceService {
 
     private final WebClient mobilityWebClient;
     private final WebClient tmapWebClient;
+    private final RouteDurationCache routeDurationCache;
+
+    // 이동 시간 행렬 조회 설정 (지점 수 상한, 외부 API 동시 호출 수 상한, 호출당 제한 시간, 전체 제한 시간)
+    private final int matrixMaxPoints;
+    private final int matrixMaxConcurrency;
+    private final Duration matrixLookupTimeout;
+    private final Duration matrixTimeout;
+
+    // 이동 시간 조회(getTransitInfoAsync)의 외부 API 별 제한 시간
+    private final Duration tmapTimeout;
+    private final Duration kakaoTimeout;
 
     public DistanceService(WebClient.Builder webClientBuilder,
+                           RouteDurationCache routeDurationCache,
                            @Value("${spring.security.oauth2.client.registration.kakao.client-id}") String kakaoApiKey,
-                           @Value("${tmap.api.key}") String tmapApiKey) {
+                           @Value("${tmap.api.key}") String tmapApiKey,
+                           @Value("${distance.matrix.max-points:50}") int matrixMaxPoints,
+                           @Value("${distance.matrix.max-concurrency:4}") int matrixMaxConcurrency,
+                           @Value("${distance.matrix.lookup-timeout:5s}") Duration matrixLookupTimeout,
+                           @Value("${distance.matrix.timeout:10s}") Duration matrixTimeout,
+                           @Value("${distance.transit.tmap-timeout:3s}") Duration tmapTimeout,
+                           @Value("${distance.transit.kakao-timeout:2s}") Duration kakaoTimeout) {
         this.kakaoApiKey = kakaoApiKey;
         this.tmapApiKey = tmapApiKey;
+        this.routeDurationCache = routeDurationCache;
+        this.matrixMaxPoints = matrixMaxPoints;
+        this.matrixMaxConcurrency = matrixMaxConcurrency;
+        this.matrixLookupTimeout = matrixLookupTimeout;
+        this.matrixTimeout = matrixTimeout;
+        this.tmapTimeout = tmapTimeout;
+        this.kakaoTimeout = kakaoTimeout;
 
         HttpClient httpClient = HttpClient.create().protocol(HttpProtocol.HTTP11);
         this.mobilityWebClient = webClientBuilder
@@ -91,17 +130,117 @@ public class DistanceService {
         return R * c;
     }
 
-    // 걷는 속도(5 km/h)를 기준으로 걸리는 시간을 분 단위로 계산하는 메서드
+    /**
+     * 한 지점에서 여러 지점까지의 하버사인 거리를 한 번에 계산 (단위: km)
+     * 기준점의 라디안/코사인 값은 한 번만 계산하고, 결과는 out[0..count) 에 기록합니다.
+     */
+    public static void haversine(double lat1, double lon1, double[] lats, double[] lons, int count, double[] out) {
+        final int R = 6371; // 지구의 반지름 (킬로미터)
+        double phi1 = Math.toRadians(lat1);
+        double lambda1 = Math.toRadians(lon1);
+        double cosPhi1 = Math.cos(phi1);
+        for (int i = 0; i < count; i++) {
+            double phi2 = Math.toRadians(lats[i]);
+            double sinDLat = Math.sin((phi2 - phi1) / 2);
+            double sinDLon = Math.sin((Math.toRadians(lons[i]) - lambda1) / 2);
+            double a = sinDLat * sinDLat + cosPhi1 * Math.cos(phi2) * sinDLon * sinDLon;
+            out[i] = R * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        }
+    }
+
+    // 걷는 속도(5 km/h)를 기준으로 걸리는 시간을 초 단위로 계산하는 메서드
     public static int calculateWalkingTime(double distanceKm) {
-        double walkingSpeed = 5.0; // km/h
+        double walkingSpeed = WALKING_SPEED_KMH; // km/h
         double timeHours = distanceKm / walkingSpeed;
 
         return (int) Math.round(timeHours * 3600);
     }
 
+    public int getMatrixMaxPoints() {
+        return matrixMaxPoints;
+    }
+
+    /**
+     * 한 지점 <-> 여러 지점 이동 시간 행렬 (논블로킹)
+     * - 도보: 하버사인 거리를 primitive 배열 한 번의 루프로 계산 (외부 호출 없음)
+     * - 대중교통/자차: 지점별 외부 API 호출을 최대 matrixMaxConcurrency 개까지 동시에 수행
+     * - 전체 조회는 matrixTimeout 안에 끝나며, 그때까지 끝나지 않은 칸은 조회 실패(-1)로 응답합니다.
+     */
+    public Mono<DistanceMatrixResponse> getDistanceMatrix(double originLat, double originLon, double[] lats, double[] lons,
+                                                          boolean reverse, boolean transit, boolean driving) {
+        int n = lats.length;
+        double[] distances = new double[n];
+        haversine(originLat, originLon, lats, lons, n, distances);
+        int[] walking = new int[n];
+        for (int i = 0; i < n; i++) {
+            walking[i] = calculateWalkingTime(distances[i]);
+        }
+
+        int[] transitDurations = transit ? filled(n) : null;
+        int[] drivingDurations = driving ? filled(n) : null;
+        if (!transit && !driving) {
+            return Mono.just(matrixResponse(walking, transitDurations, drivingDurations));
+        }
+
+        // 작업 번호 j: 앞쪽 n 개는 대중교통, 뒤쪽 n 개는 자차
+        return Flux.range(0, 2 * n)
+                .filter(j -> j < n ? transit : driving)
+                .flatMap(j -> {
+                    int i = j % n;
+                    double startLat = reverse ? lats[i] : originLat;
+                    double startLon = reverse ? lons[i] : originLon;
+                    double endLat = reverse ? originLat : lats[i];
+                    double endLon = reverse ? originLon : lons[i];
+                    Mono<Integer> lookup = j < n
+                            ? cachedTransitDuration(startLat, startLon, endLat, endLon)
+                            : cachedDrivingDuration(startLat, startLon, endLat, endLon);
+                    return lookup.timeout(matrixLookupTimeout)
+                            .onErrorResume(e -> Mono.empty())
+                            .map(duration -> Tuples.of(j, duration));
+                }, matrixMaxConcurrency)
+                // 전체 제한 시간이 지나면 남은 조회는 취소하고 그때까지의 결과만 사용
+                .take(matrixTimeout)
+                .collectList()
+                .map(results -> {
+                    for (Tuple2<Integer, Integer> result : results) {
+                        int j = result.getT1();
+                        if (j < n) {
+                            transitDurations[j] = result.getT2();
+                        } else {
+                            drivingDurations[j - n] = result.getT2();
+                        }
+                    }
+                    return matrixResponse(walking, transitDurations, drivingDurations);
+                });
+    }
+
+    private static DistanceMatrixResponse matrixResponse(int[] walking, int[] transit, int[] driving) {
+        return DistanceMatrixResponse.builder()
+                .walking(walking)
+                .transit(transit)
+                .driving(driving)
+                .build();
+    }
+
+    // 조회 실패 칸은 -1
+    private static int[] filled(int n) {
+        int[] values = new int[n];
+        Arrays.fill(values, -1);
+        return values;
+    }
+
     //전희성 추가 : 카카오 API를 이용해 도보 및 대중교통 시간 추출 시작
-    // 카카오 API를 이용한 도보/대중교통 시간 조회 메서드
+    // 카카오 API를 이용한 도보/대중교통 시간 조회 메서드 (블로킹 호출용, 두 외부 API 는 동시에 호출)
     public TransitResponse getTransitInfo(double lat1, double lon1, double lat2, double lon2) {
+        return getTransitInfoAsync(lat1, lon1, lat2, lon2).block();
+    }
+
+    /**
+     * 도보/대중교통/자차 시간 조회 (논블로킹)
+     * TMap 대중교통과 카카오모빌리티 자차 조회를 동시에 호출해 zip 하며, 각 호출에는 별도 제한 시간을 둡니다.
+     * 시간 초과나 오류가 난 항목은 null 로 두고 나머지 값만으로 응답합니다. (부분 결과)
+     */
+    public Mono<TransitResponse> getTransitInfoAsync(double lat1, double lon1, double lat2, double lon2) {
         log.info("이동 시간 정보 조회");
         log.info("출발지: {}, {}", lat1, lon1);
         log.info("도착지: {}, {}", lat2, lon2);
@@ -111,133 +250,112 @@ public class DistanceService {
         Integer walkingDuration = calculateWalkingTime(distance);
         log.info("하버사인 공식으로 계산한 도보 시간: {}초", walkingDuration);
 
-        // 대중교통 시간 - TMap API 사용
-        Integer transitDuration = getTmapTransitDuration(lat1, lon1, lat2, lon2);
-        log.info("TMap 대중교통 시간: {}초", transitDuration);
-
-        // 자동차 API 호출 - 기존 모빌리티 API 유지
-        Integer drivingDuration = getKakaoMobilityDuration(lon1, lat1, lon2, lat2);
-        log.info("카카오 자동차 시간: {}초", drivingDuration);
+        // 대중교통 시간 - TMap API, 자동차 시간 - 카카오모빌리티 API
+        Mono<Optional<Integer>> transit = partial(
+                cachedTransitDuration(lat1, lon1, lat2, lon2), tmapTimeout, "TMap 대중교통");
+        Mono<Optional<Integer>> driving = partial(
+                cachedDrivingDuration(lat1, lon1, lat2, lon2), kakaoTimeout, "카카오 자동차");
+
+        return Mono.zip(transit, driving)
+                .map(durations -> {
+                    TransitResponse response = TransitResponse.builder()
+                            .walkingDuration(walkingDuration)
+                            .transitDuration(durations.getT1().orElse(null))
+                            .drivingDuration(durations.getT2().orElse(null))
+                            .build();
+                    log.info("최종 응답: {}", response);
+                    return response;
+                });
+    }
 
-        TransitResponse response = TransitResponse.builder()
-                .walkingDuration(walkingDuration)
-                .transitDuration(transitDuration)
-                .drivingDuration(drivingDuration)
-                .build();
+    // 제한 시간 안에 받은 값만 Optional 로 감싸고, 시간 초과/오류/결과 없음은 Optional.empty() 로 바꿉니다.
+    private static Mono<Optional<Integer>> partial(Mono<Integer> lookup, Duration timeout, String provider) {
+        return lookup.timeout(timeout)
+                .map(Optional::of)
+                .onErrorResume(TimeoutException.class, e -> {
+                    log.warn("{} 조회 시간 초과({}), 해당 값 없이 응답합니다.", provider, timeout);
+                    return Mono.empty();
+                })
+                .onErrorResume(e -> Mono.empty())
+                .defaultIfEmpty(Optional.empty());
+    }
 
-        log.info("최종 응답: {}", response);
-        return response;
-    }
-
-    // TMap 대중교통 추가
-    private Integer getTmapTransitDuration(double startLat, double startLon, double endLat, double endLon) {
-        try {
-            Map<String, Object> body = new HashMap<>();
-            body.put("startX", startLon);
-            body.put("startY", startLat);
-            body.put("endX", endLon);
-            body.put("endY", endLat);
-            body.put("count", 1);
-            body.put("lang", 0);
-            body.put("format", "json");
-
-            Map<String, Object> response = tmapWebClient.post()
-                    .uri("/transit/routes")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(BodyInserters.fromValue(body))
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .onErrorResume(e -> Mono.just(new HashMap<>()))
-                    .block();
-
-            return extractTmapTransitDuration(response);
-        } catch (Exception e) {
-            return null;
-        }
+    // 경로 캐시(RouteDurationCache)를 거친 대중교통/자차 소요 시간 (초)
+    private Mono<Integer> cachedTransitDuration(double startLat, double startLon, double endLat, double endLon) {
+        return routeDurationCache.get(RouteDurationCache.Provider.TMAP_TRANSIT, startLat, startLon, endLat, endLon,
+                () -> tmapTransitDuration(startLat, startLon, endLat, endLon));
     }
 
-    @SuppressWarnings("unchecked")
-    private Integer extractTmapTransitDuration(Map<String, Object> response) {
-        try {
-            if (response != null && response.containsKey("metaData")) {
-                Map<String, Object> metaData = (Map<String, Object>) response.get("metaData");
-                Map<String, Object> plan = (Map<String, Object>) metaData.get("plan");
-                List<Map<String, Object>> itineraries = (List<Map<String, Object>>) plan.get("itineraries");
-                if (itineraries != null && !itineraries.isEmpty()) {
-                    Map<String, Object> first = itineraries.get(0);
-                    if (first.containsKey("totalTime")) {
-                        return Integer.parseInt(first.get("totalTime").toString());
-                    }
-                }
-            }
-        } catch (Exception ignored) {
-        }
-        return null;
-    }
-
-    // 카카오모빌리티 API를 이용한 자동차 소요 시간만 반환
-    private Integer getKakaoMobilityDuration(double sLon, double sLat, double eLon, double eLat) {
-        try {
-            Map<String, Object> mobilityResponse = mobilityWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/v1/directions")
-                            .queryParam("origin", sLon + "," + sLat)
-                            .queryParam("destination", eLon + "," + eLat)
-                            .queryParam("priority", "TIME")
-                            .queryParam("car_type", "1")  // 자동차 유형 (1: 일반)
-                            .queryParam("mode", "DRIVING")
-                            .build())
-                    .header(HttpHeaders.AUTHORIZATION, "KakaoAK " + kakaoApiKey)
-                    .retrieve()
-                    .onStatus(
-                            status -> status.is4xxClientError() || status.is5xxServerError(),
-                            clientResponse -> clientResponse.bodyToMono(String.class)
-                                    .flatMap(error -> {
-                                        log.error("카카오모빌리티 API 오류: {}", error);
-                                        return Mono.error(new RuntimeException("API 호출 실패: " + error));
-                                    })
-                    )
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .onErrorResume(e -> {
-                        log.error("모빌리티 API 호출 중 오류 발생: {}", e.getMessage());
-                        return Mono.just(new HashMap<>());
-                    })
-                    .block();
-
-            return extractMobilityDuration(mobilityResponse);
-        } catch (Exception e) {
-            log.error("모빌리티 API 호출 예외: {}", e.getMessage());
-            return null;
-        }
+    private Mono<Integer> cachedDrivingDuration(double startLat, double startLon, double endLat, double endLon) {
+        return routeDurationCache.get(RouteDurationCache.Provider.KAKAO_DRIVING, startLat, startLon, endLat, endLon,
+                () -> kakaoMobilityDuration(startLon, startLat, endLon, endLat));
     }
 
-    // 카카오 모빌리티 API 응답에서 소요 시간 추출 (기존 메서드)
-    @SuppressWarnings("unchecked")
-    private Integer extractMobilityDuration(Map<String, Object> response) {
-        try {
-            if (response != null && response.containsKey("routes")) {
-                List<Map<String, Object>> routes = (List<Map<String, Object>>) response.get("routes");
-                if (!routes.isEmpty()) {
-                    Map<String, Object> route = routes.get(0);
+    // TMap 대중교통 소요 시간 (초), 실패하거나 경로가 없으면 빈 Mono
+    private Mono<Integer> tmapTransitDuration(double startLat, double startLon, double endLat, double endLon) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("startX", startLon);
+        body.put("startY", startLat);
+        body.put("endX", endLon);
+        body.put("endY", endLat);
+        body.put("count", 1);
+        body.put("lang", 0);
+        body.put("format", "json");
+
+        return tmapWebClient.post()
+                .uri("/transit/routes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromValue(body))
+                .retrieve()
+                .bodyToMono(DataBuffer.class)
+                .flatMap(buffer -> parseDuration(buffer, RouteResponseParser::tmapTransitDuration))
+                .onErrorResume(e -> Mono.empty());
+    }
 
-                    // 소요 시간 (초)
-                    if (route.containsKey("duration")) {
-                        return (Integer) route.get("duration");
-                    }
+    // 카카오모빌리티 자동차 소요 시간 (초), 실패하거나 경로가 없으면 빈 Mono
+    private Mono<Integer> kakaoMobilityDuration(double sLon, double sLat, double eLon, double eLat) {
+        return mobilityWebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/v1/directions")
+                        .queryParam("origin", sLon + "," + sLat)
+                        .queryParam("destination", eLon + "," + eLat)
+                        .queryParam("priority", "TIME")
+                        .queryParam("car_type", "1")  // 자동차 유형 (1: 일반)
+                        .queryParam("mode", "DRIVING")
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, "KakaoAK " + kakaoApiKey)
+                .retrieve()
+                .onStatus(
+                        status -> status.is4xxClientError() || status.is5xxServerError(),
+                        clientResponse -> clientResponse.bodyToMono(String.class)
+                                .flatMap(error -> {
+                                    log.error("카카오모빌리티 API 오류: {}", error);
+                                    return Mono.error(new RuntimeException("API 호출 실패: " + error));
+                                })
+                )
+                .bodyToMono(DataBuffer.class)
+                .flatMap(buffer -> parseDuration(buffer, RouteResponseParser::kakaoDrivingDuration))
+                .onErrorResume(e -> {
+                    log.error("모빌리티 API 호출 중 오류 발생: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
 
-                    // 혹은 summary에 있을 수도 있음
-                    if (route.containsKey("summary")) {
-                        Map<String, Object> summary = (Map<String, Object>) route.get("summary");
-                        if (summary.containsKey("duration")) {
-                            return (Integer) summary.get("duration");
-                        }
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.error("카카오 모빌리티 API 응답 파싱 오류", e);
+    /**
+     * 응답 본문을 Map 트리로 역직렬화하지 않고 스트리밍 파서로 소요 시간만 읽습니다. (RouteResponseParser)
+     * 파싱이 끝나면 버퍼를 반환하며, 값이 없으면 빈 Mono 입니다.
+     */
+    private static Mono<Integer> parseDuration(DataBuffer buffer, DurationReader reader) {
+        try (InputStream in = buffer.asInputStream(true)) {
+            return Mono.justOrEmpty(reader.read(in));
+        } catch (IOException e) {
+            return Mono.error(new UncheckedIOException(e));
         }
-        return null;
+    }
+
+    @FunctionalInterface
+    private interface DurationReader {
+        Integer read(InputStream in) throws IOException;
     }
     //전희성 추가 : 카카오 API를 이용해 도보 및 대중교통 시간 추출 끝
 }
\ No newline at end of file
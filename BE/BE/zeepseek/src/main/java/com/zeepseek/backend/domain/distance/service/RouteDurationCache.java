@@ -0,0 +1,146 @@
+package com.zeepseek.backend.domain.distance.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 외부 경로 API(TMap 대중교통, 카카오모빌리티 자동차) 소요 시간 캐시
+ *
+ * - 키: 출발/도착 좌표를 grid-meters 간격 격자로 스냅한 (행, 열) + 시간대 버킷 (출발 -> 도착 방향 구분)
+ *   같은 집 - 목적지 쌍은 좌표가 조금 달라도 같은 키가 됩니다.
+ * - L1: 노드 내부 Caffeine LRU (동시에 같은 키를 요청하면 외부 API 는 한 번만 호출)
+ * - L2: property redis 문자열 (값: 소요 시간 초), 제공자별 TTL
+ * 조회 실패/경로 없음은 일시적인 경우가 많아 캐시하지 않습니다.
+ *
+ * 메트릭: distance.route-cache.requests (provider, result=local|remote|miss)
+ */
+@Slf4j
+@Component
+public class RouteDurationCache {
+
+    private static final String KEY_PREFIX = "route:";
+    private static final double METERS_PER_DEGREE = 111_195;
+
+    public enum Provider {
+        TMAP_TRANSIT("tmap"),
+        KAKAO_DRIVING("kakao");
+
+        private final String key;
+
+        Provider(String key) {
+            this.key = key;
+        }
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final AsyncCache<String, Integer> local;
+    private final double gridDeg;
+    private final int hourBucketHours;
+    private final ZoneId zone;
+    private final Duration tmapTtl;
+    private final Duration kakaoTtl;
+
+    public RouteDurationCache(StringRedisTemplate redisTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${distance.route-cache.grid-meters:50}") double gridMeters,
+                              @Value("${distance.route-cache.hour-bucket-hours:1}") int hourBucketHours,
+                              @Value("${distance.route-cache.zone:Asia/Seoul}") String zone,
+                              @Value("${distance.route-cache.local.max-size:10000}") long localMaxSize,
+                              @Value("${distance.route-cache.local.ttl:10m}") Duration localTtl,
+                              @Value("${distance.route-cache.ttl.tmap:6h}") Duration tmapTtl,
+                              @Value("${distance.route-cache.ttl.kakao:30m}") Duration kakaoTtl) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.gridDeg = gridMeters / METERS_PER_DEGREE;
+        this.hourBucketHours = Math.max(1, hourBucketHours);
+        this.zone = ZoneId.of(zone);
+        this.tmapTtl = tmapTtl;
+        this.kakaoTtl = kakaoTtl;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .buildAsync();
+    }
+
+    /**
+     * 캐시된 소요 시간(초)을 반환하고, 없으면 loader 로 외부 API 를 호출해 저장합니다.
+     * 구독을 취소해도(제한 시간 초과 등) 진행 중인 조회는 끝까지 수행되어 다음 요청에서 재사용됩니다.
+     */
+    public Mono<Integer> get(Provider provider, double startLat, double startLon, double endLat, double endLon,
+                             Supplier<Mono<Integer>> loader) {
+        String key = key(provider, startLat, startLon, endLat, endLon);
+        CompletableFuture<Integer> cached = local.getIfPresent(key);
+        if (cached != null && cached.isDone() && !cached.isCompletedExceptionally() && cached.join() != null) {
+            count(provider, "local");
+            return Mono.just(cached.join());
+        }
+        CompletableFuture<Integer> future = local.get(key, (k, executor) -> loadRemoteOrFetch(provider, k, loader));
+        return Mono.fromFuture(future, true);
+    }
+
+    private CompletableFuture<Integer> loadRemoteOrFetch(Provider provider, String key, Supplier<Mono<Integer>> loader) {
+        return Mono.fromCallable(() -> remoteGet(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(seconds -> count(provider, "remote"))
+                .switchIfEmpty(Mono.defer(() -> {
+                    count(provider, "miss");
+                    return loader.get()
+                            .doOnNext(seconds -> Schedulers.boundedElastic().schedule(
+                                    () -> remoteSet(provider, key, seconds)));
+                }))
+                .toFuture();
+    }
+
+    private Integer remoteGet(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return value != null ? Integer.valueOf(value) : null;
+        } catch (Exception e) {
+            log.warn("경로 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void remoteSet(Provider provider, String key, int seconds) {
+        try {
+            redisTemplate.opsForValue().set(key, Integer.toString(seconds),
+                    provider == Provider.TMAP_TRANSIT ? tmapTtl : kakaoTtl);
+        } catch (Exception e) {
+            log.warn("경로 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * route:{provider}:{출발 행}:{출발 열}:{도착 행}:{도착 열}:{시간대}
+     */
+    String key(Provider provider, double startLat, double startLon, double endLat, double endLon) {
+        int bucket = ZonedDateTime.now(zone).getHour() / hourBucketHours;
+        return KEY_PREFIX + provider.key + ':' + snap(startLat, startLon) + ':' + snap(endLat, endLon) + ':' + bucket;
+    }
+
+    // 위도는 gridDeg 간격, 경도는 해당 행의 위도에서 같은 거리(m)가 되도록 간격을 넓혀 스냅
+    private String snap(double lat, double lon) {
+        long row = Math.round(lat / gridDeg);
+        double lonDeg = gridDeg / Math.max(0.01, Math.cos(Math.toRadians(row * gridDeg)));
+        long col = Math.round(lon / lonDeg);
+        return row + ":" + col;
+    }
+
+    private void count(Provider provider, String result) {
+        meterRegistry.counter("distance.route-cache.requests", "provider", provider.key, "result", result).increment();
+    }
+}
@@ -0,0 +1,115 @@
+package com.zeepseek.backend.domain.distance.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 외부 경로 API 응답에서 소요 시간(초) 하나만 읽는 Jackson 스트리밍 파서
+ *
+ * 응답 전체를 Map 트리로 만들지 않고 토큰 단위로 경로를 따라가며, 값을 찾으면 나머지는 읽지 않습니다.
+ * 경로 밖의 객체/배열은 skipChildren 으로 건너뛰므로 큰 itineraries / sections 도 객체를 만들지 않습니다.
+ * - TMap 대중교통: metaData.plan.itineraries[0].totalTime
+ * - 카카오모빌리티: routes[0].duration, 없으면 routes[0].summary.duration (필드 순서와 무관)
+ * 값이 없거나 정수(정수 문자열 포함)가 아니면 null 을 반환합니다. 소수 값은 버림하지 않고 null 로 처리합니다.
+ */
+final class RouteResponseParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private RouteResponseParser() {
+    }
+
+    static Integer tmapTransitDuration(InputStream in) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT
+                    || !moveToObjectField(parser, "metaData")
+                    || !moveToObjectField(parser, "plan")
+                    || !moveToFirstArrayObject(parser, "itineraries")
+                    || !moveToField(parser, "totalTime")) {
+                return null;
+            }
+            return intValue(parser);
+        }
+    }
+
+    static Integer kakaoDrivingDuration(InputStream in) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT || !moveToFirstArrayObject(parser, "routes")) {
+                return null;
+            }
+            // routes[0].duration 이 우선이므로 summary 를 먼저 만나면 값을 기억해 두고 routes[0] 끝까지 확인
+            Integer summaryDuration = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("duration".equals(name)) {
+                    return intValue(parser);
+                }
+                if ("summary".equals(name) && value == JsonToken.START_OBJECT) {
+                    if (moveToField(parser, "duration")) {
+                        summaryDuration = intValue(parser);
+                        parser.skipChildren();
+                        skipRestOfObject(parser);
+                    }
+                    continue;
+                }
+                parser.skipChildren();
+            }
+            return summaryDuration;
+        }
+    }
+
+    /**
+     * 현재 객체 안에서 name 필드를 찾아 값 토큰으로 이동 (다른 필드의 값은 건너뜀)
+     */
+    private static boolean moveToField(JsonParser parser, String name) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            boolean match = name.equals(parser.currentName());
+            parser.nextToken();
+            if (match) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static boolean moveToObjectField(JsonParser parser, String name) throws IOException {
+        return moveToField(parser, name) && parser.currentToken() == JsonToken.START_OBJECT;
+    }
+
+    // name 배열의 첫 번째 객체 안으로 이동
+    private static boolean moveToFirstArrayObject(JsonParser parser, String name) throws IOException {
+        return moveToField(parser, name)
+                && parser.currentToken() == JsonToken.START_ARRAY
+                && parser.nextToken() == JsonToken.START_OBJECT;
+    }
+
+    // 현재 객체의 남은 필드를 건너뛰고 END_OBJECT 로 이동
+    private static void skipRestOfObject(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            parser.nextToken();
+            parser.skipChildren();
+        }
+    }
+
+    // int 범위의 정수 또는 정수 문자열 값 (소수/범위 밖 값은 null, 기존 Integer.parseInt 기반 파싱과 동일)
+    private static Integer intValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getNumberType() == JsonParser.NumberType.INT ? parser.getIntValue() : null;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Integer.parseInt(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -1,11 +1,14 @@
 package com.zeepseek.backend.domain.dong.controller;
 
+import com.zeepseek.backend.config.cache.ConditionalResponses;
+import com.zeepseek.backend.config.cache.ResponseBytesCache;
 import com.zeepseek.backend.domain.dong.document.DongInfoDocs;
 import com.zeepseek.backend.domain.dong.dto.request.DongCommentRequestDto;
 import com.zeepseek.backend.domain.dong.service.DongService;
 import com.zeepseek.backend.domain.logevent.annotation.Loggable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,15 +21,18 @@ import java.util.List;
 public class DongController {
 
     private final DongService dongService;
+    private final ResponseBytesCache responseBytesCache;
 
     /**
      * 동 이름으로 검색하는 API
      * 요청 예: GET /api/dongs/search?name=신당
      */
     @GetMapping("/search")
-    public ResponseEntity<List<DongInfoDocs>> searchDongs(@RequestParam("name") String name) {
-        List<DongInfoDocs> dongs = dongService.searchByName(name);
-        return ResponseEntity.ok(dongs);
+    public ResponseEntity<List<DongInfoDocs>> searchDongs(
+            @RequestParam("name") String name,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = dongService.allEtag("search");
+        return ConditionalResponses.respond(etag, ifNoneMatch, () -> dongService.searchByName(name));
     }
 
     /**
@@ -39,10 +45,13 @@ public class DongController {
             @PathVariable("dongId") Integer dongId,
             @CookieValue(value = "userId", defaultValue = "-1", required = false ) int userId,
             @CookieValue(value = "age", defaultValue = "-1", required = false ) int age,
-            @CookieValue(value = "gender", defaultValue = "-1", required = false ) String gender) {
-        DongInfoDocs dong = dongService.getDongDetail(dongId);
-        log.info(dongId.toString());
-        return dong != null ? ResponseEntity.ok(dong) : ResponseEntity.notFound().build();
+            @CookieValue(value = "gender", defaultValue = "-1", required = false ) String gender,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = dongService.dongEtag("dong", dongId);
+        return ConditionalResponses.respond(etag, ifNoneMatch, () -> {
+            log.info(dongId.toString());
+            return dongService.getDongDetail(dongId);
+        });
     }
 
     /**
@@ -55,9 +64,10 @@ public class DongController {
             @PathVariable("dongId") Integer dongId,
             @CookieValue(value = "userId", defaultValue = "-1", required = false ) int userId,
             @CookieValue(value = "age", defaultValue = "-1", required = false ) int age,
-            @CookieValue(value = "gender", defaultValue = "-1", required = false ) String gender) {
-        List<DongInfoDocs.DongComment> comments = dongService.getDongComments(dongId);
-        return ResponseEntity.ok(comments);
+            @CookieValue(value = "gender", defaultValue = "-1", required = false ) String gender,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = dongService.dongEtag("comment", dongId);
+        return ConditionalResponses.respond(etag, ifNoneMatch, () -> dongService.getDongComments(dongId));
     }
 
     /**
@@ -90,7 +100,11 @@ public class DongController {
     }
 
     @GetMapping("/all")
-    public ResponseEntity<?> findAlldongs() {
-        return ResponseEntity.ok(dongService.findAllDongsforZzim());
+    public ResponseEntity<byte[]> findAlldongs(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String etag = dongService.allEtag("all");
+        return responseBytesCache.respond("dong:all", etag, ifNoneMatch, acceptEncoding,
+                () -> dongService.findAllDongsforZzim());
     }
 }
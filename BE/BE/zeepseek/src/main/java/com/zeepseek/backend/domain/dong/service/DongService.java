@@ -1,5 +1,6 @@
 package com.zeepseek.backend.domain.dong.service;
 
+import com.zeepseek.backend.config.version.DataVersionService;
 import com.zeepseek.backend.domain.dong.document.DongInfoDocs;
 import com.zeepseek.backend.domain.dong.dto.request.DongCommentRequestDto;
 import com.zeepseek.backend.domain.dong.entity.DongInfo;
@@ -15,12 +16,22 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+/**
+ * 동 정보/댓글 서비스
+ *
+ * 조회 API ETag 용 버전 필드 (DataVersionService): dong:{dongId} (해당 동 문서), dong:all (동 문서 전체)
+ * 댓글 등록/삭제 시 두 필드를 증가시킵니다. 동 문서를 애플리케이션 밖에서 적재/수정한 경우에는
+ * data:version 해시의 dong:all (및 해당 dong:{dongId}) 필드를 함께 증가시켜야 합니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class DongService {
 
+    private static final String ALL_VERSION = "dong:all";
+
     private final MongoDongRepository dongRepository;
     private final MySQLDongRepository mySQLDongRepository;
+    private final DataVersionService dataVersionService;
 
     /**
      * 동 이름을 포함한 검색 결과 반환
@@ -70,7 +81,9 @@ public class DongService {
         doc.getComments().add(comment);
         // 전체 댓글 수 업데이트 (리스트 크기로 설정)
         doc.setCommentCount(doc.getComments().size());
-        return dongRepository.save(doc);
+        DongInfoDocs saved = dongRepository.save(doc);
+        dataVersionService.bump(versionField(dongId), ALL_VERSION);
+        return saved;
     }
 
     /**
@@ -88,11 +101,31 @@ public class DongService {
                     .collect(Collectors.toList());
             doc.setComments(updatedComments);
             doc.setCommentCount(updatedComments.size());
-            return dongRepository.save(doc);
+            DongInfoDocs saved = dongRepository.save(doc);
+            dataVersionService.bump(versionField(dongId), ALL_VERSION);
+            return saved;
         }
         return doc;
     }
 
+    /**
+     * 특정 동 문서(상세, 댓글)에 대한 ETag (버전 조회 실패 시 null)
+     */
+    public String dongEtag(String prefix, Integer dongId) {
+        return dataVersionService.etag(prefix, versionField(dongId));
+    }
+
+    /**
+     * 동 문서 전체(목록, 검색)에 대한 ETag (버전 조회 실패 시 null)
+     */
+    public String allEtag(String prefix) {
+        return dataVersionService.etag(prefix, ALL_VERSION);
+    }
+
+    private static String versionField(Integer dongId) {
+        return "dong:" + dongId;
+    }
+
     public List<DongInfoDocs> findAllDongsforZzim() {
         return dongRepository.findAll();
     }
@@ -1,10 +1,22 @@
 package com.zeepseek.backend.domain.property.controller;
 
+import com.zeepseek.backend.domain.auth.security.UserPrincipal;
+import com.zeepseek.backend.domain.property.dto.request.CellBoundsDto;
+import com.zeepseek.backend.domain.property.dto.request.CommutePropertiesRequestDto;
+import com.zeepseek.backend.domain.property.dto.request.NearestPropertiesRequestDto;
 import com.zeepseek.backend.domain.property.dto.request.PropertyCellsRequestDto;
+import com.zeepseek.backend.domain.property.dto.request.PropertyTilesRequestDto;
+import com.zeepseek.backend.domain.property.dto.request.ViewportDeltaRequestDto;
 import com.zeepseek.backend.domain.property.dto.response.CellPropertiesDto;
+import com.zeepseek.backend.domain.property.dto.response.CommutePropertiesDto;
+import com.zeepseek.backend.domain.property.dto.response.NearestPropertiesDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyClusterDto;
+import com.zeepseek.backend.domain.property.dto.response.TilePropertiesDto;
+import com.zeepseek.backend.domain.property.dto.response.ViewportDeltaDto;
 import com.zeepseek.backend.domain.property.service.PropertyCellsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -29,4 +41,85 @@ public class PropertyCellsController {
         List<CellPropertiesDto> response = propertyCellsService.getPropertiesForCells(requestDto.getCells(), type, userId);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 지도 타일(quadkey) 단위로 매물 목록을 반환합니다. 타일 + 타입 단위로 캐싱됩니다.
+     * URL 예시: POST /api/v1/property/tiles?type=one-room
+     * Body: { "quadkeys": ["132110320..."] } 또는 { "viewport": {minLat, maxLat, minLng, maxLng}, "zoom": 15 }
+     */
+    @PostMapping("/tiles")
+    public ResponseEntity<List<TilePropertiesDto>> getPropertiesForTiles(
+            @RequestBody PropertyTilesRequestDto requestDto,
+            @RequestParam(defaultValue = "all") String type,
+            @CookieValue(value = "userId", required = false , defaultValue = "-1") int userId) {
+        List<TilePropertiesDto> response = propertyCellsService.getPropertiesForTiles(requestDto, type, userId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 지도 이동 시 이전 뷰포트 대비 추가된 매물 카드와 제거된 매물 id 만 반환합니다.
+     * URL 예시: POST /api/v1/property/viewport/delta?type=one-room
+     * Body: { "previousViewport": {...}, "viewport": {minLat, maxLat, minLng, maxLng}, "version": 12 }
+     * 첫 요청은 viewport 만 보내고, 이후에는 직전 뷰포트와 직전 응답의 version 을 함께 보냅니다.
+     * 찜 여부는 로그인(JWT)한 경우에만 표시됩니다.
+     */
+    @PostMapping("/viewport/delta")
+    public ResponseEntity<ViewportDeltaDto> getViewportDelta(
+            @RequestBody ViewportDeltaRequestDto requestDto,
+            @RequestParam(defaultValue = "all") String type,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        ViewportDeltaDto response = propertyCellsService.getViewportDelta(requestDto, type, userIdOf(userPrincipal));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 한 지점(희망 목적지, 지하철역 등)에서 가까운 매물 k 개를 거리 순으로 반환합니다.
+     * URL 예시: GET /api/v1/property/nearest?lat=37.5&lng=127.0&k=20&type=one-room&maxRent=60&maxDistanceKm=2
+     * minRent / maxRent / maxDistanceKm 는 생략 가능합니다.
+     * 찜 여부는 로그인(JWT)한 경우에만 표시됩니다.
+     */
+    @GetMapping("/nearest")
+    public ResponseEntity<NearestPropertiesDto> getNearestProperties(
+            @ModelAttribute NearestPropertiesRequestDto requestDto,
+            @RequestParam(defaultValue = "all") String type,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        NearestPropertiesDto response = propertyCellsService.getNearestProperties(requestDto, type, userIdOf(userPrincipal));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 내 희망 목적지(회원 선호 정보)까지 걸어서 maxMinutes 분 이내인 매물을 도보 시간 순으로 반환합니다.
+     * 로그인(JWT)이 필요하며, 응답에는 목적지 주소/좌표를 포함하지 않습니다.
+     * URL 예시: GET /api/v1/property/commute?maxMinutes=15&page=1&size=20&type=one-room
+     */
+    @GetMapping("/commute")
+    public ResponseEntity<CommutePropertiesDto> getCommuteProperties(
+            @ModelAttribute CommutePropertiesRequestDto requestDto,
+            @RequestParam(defaultValue = "all") String type,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        CommutePropertiesDto response = propertyCellsService.getCommuteProperties(requestDto, type, userIdOf(userPrincipal));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 뷰포트 범위의 매물 클러스터(개수, 중심점, 월세 최소/평균)를 반환합니다.
+     * URL 예시: GET /api/v1/property/clusters?minLat=37.4&maxLat=37.7&minLng=126.8&maxLng=127.2&zoom=11&type=all
+     * zoom: 웹 지도 줌 레벨 0~22 (값이 클수록 확대, 클러스터가 작아짐)
+     * 범위가 잘못되었거나(뒤집힘, 무한대, 위경도 범위 밖) 줌 레벨에 비해 너무 넓으면 400
+     */
+    @GetMapping("/clusters")
+    public ResponseEntity<List<PropertyClusterDto>> getClusters(
+            @ModelAttribute CellBoundsDto viewport,
+            @RequestParam int zoom,
+            @RequestParam(defaultValue = "all") String type) {
+        List<PropertyClusterDto> response = propertyCellsService.getClusters(viewport, zoom, type);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 사용자별 정보는 클라이언트가 바꿀 수 있는 userId 쿠키가 아닌 JWT 인증 정보로 식별합니다. (비로그인 시 -1)
+     */
+    private static int userIdOf(UserPrincipal userPrincipal) {
+        return userPrincipal != null && userPrincipal.getId() != null ? userPrincipal.getId() : -1;
+    }
 }
@@ -1,18 +1,25 @@
 package com.zeepseek.backend.domain.property.controller;
 
+import com.zeepseek.backend.config.cache.ConditionalResponses;
+import com.zeepseek.backend.config.cache.ResponseBytesCache;
 import com.zeepseek.backend.domain.logevent.annotation.Loggable;
-import com.zeepseek.backend.domain.property.dto.response.DongPropertyCountDto;
-import com.zeepseek.backend.domain.property.dto.response.GuPropertyCountDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyCardDto;
 import com.zeepseek.backend.domain.property.dto.response.PropertySummaryDto;
+import com.zeepseek.backend.domain.property.index.PropertyLayerEncoding;
 import com.zeepseek.backend.domain.property.model.Property;
+import com.zeepseek.backend.domain.property.service.PropertyLayerService;
 import com.zeepseek.backend.domain.property.service.PropertyService;
+import com.zeepseek.backend.domain.property.service.PropertyVersionService;
 import com.zeepseek.backend.domain.recommend.service.RecommendationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -21,13 +28,21 @@ import java.util.List;
 public class PropertyController {
 
     private static final Logger logger = LoggerFactory.getLogger(PropertyController.class);
+    private static final MediaType LAYER_CONTENT_TYPE = MediaType.parseMediaType(PropertyLayerEncoding.CONTENT_TYPE);
 
     private final PropertyService propertyService;
-
+    private final PropertyLayerService propertyLayerService;
+    private final PropertyVersionService propertyVersionService;
+    private final ResponseBytesCache responseBytesCache;
 
     @Autowired
-    public PropertyController(PropertyService propertyService, RecommendationService recommendationService) {
+    public PropertyController(PropertyService propertyService, RecommendationService recommendationService,
+                              PropertyLayerService propertyLayerService, PropertyVersionService propertyVersionService,
+                              ResponseBytesCache responseBytesCache) {
         this.propertyService = propertyService;
+        this.propertyLayerService = propertyLayerService;
+        this.propertyVersionService = propertyVersionService;
+        this.responseBytesCache = responseBytesCache;
     }
 
     // 매물 상세 조회 API: GET /api/v1/property/{propertyId}
@@ -51,81 +66,139 @@ public class PropertyController {
         return ResponseEntity.ok(properties);
     }
 
-    // 전체 매물 조회 (모든 데이터 반환; 주의: 데이터량이 많을 수 있음)
-    @GetMapping("/all")
-    public ResponseEntity<List<PropertySummaryDto>> getAllPropertySummaries() {
-        List<PropertySummaryDto> properties = propertyService.getAllPropertySummaries();
-        return ResponseEntity.ok(properties);
+    // 전체 매물 조회 (모든 데이터 반환): DB 커서에서 읽는 즉시 JSON 배열로 스트리밍
+    @GetMapping(value = "/all", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAllPropertySummaries() {
+        StreamingResponseBody body = out -> propertyService.writeAllPropertySummaries(out, false);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // 전체 매물 조회 NDJSON (Accept: application/x-ndjson): 한 줄에 매물 하나씩 스트리밍
+    @GetMapping(value = "/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllPropertySummaries() {
+        StreamingResponseBody body = out -> propertyService.writeAllPropertySummaries(out, true);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    // 전체 매물 조회 바이너리 (Accept: application/vnd.zeepseek.property-layer)
+    // 데이터 버전마다 미리 인코딩한 바이트를 ResponseBytesCache 와 같은 방식(gzip ETag 분리, q 값)으로 내려줍니다.
+    @GetMapping(value = "/all", produces = PropertyLayerEncoding.CONTENT_TYPE)
+    public ResponseEntity<byte[]> getAllPropertyLayer(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        PropertyLayerService.EncodedLayer layer = propertyLayerService.getLayer();
+        return ResponseBytesCache.respond(layer.getBody(), LAYER_CONTENT_TYPE, layer.getEtag(),
+                ifNoneMatch, acceptEncoding, HttpHeaders.ACCEPT);
+    }
+
+    // 동/구 x 매물 타입 별 개수 전체 조회: GET /api/v1/property/count/all
+    @GetMapping("/count/all")
+    public ResponseEntity<byte[]> getAllPropertyCounts(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String etag = propertyVersionService.countEtag("count-all");
+        return responseBytesCache.respond("property:count-all", etag, ifNoneMatch, acceptEncoding,
+                () -> propertyService.getAllPropertyCounts());
     }
 
     // 동별 매물 수 조회 API: GET /api/v1/property/count/dong
     @GetMapping("/count/dong")
-    public ResponseEntity<List<DongPropertyCountDto>> countPropertiesByDong() {
-        List<DongPropertyCountDto> counts = propertyService.countPropertiesByDong();
-        return ResponseEntity.ok(counts);
+    public ResponseEntity<byte[]> countPropertiesByDong(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String etag = propertyVersionService.countEtag("count-dong");
+        return responseBytesCache.respond("property:count-dong", etag, ifNoneMatch, acceptEncoding,
+                () -> propertyService.countPropertiesByDong());
     }
 
     // 구별 매물 수 조회 API: GET /api/v1/property/count/gu
     @GetMapping("/count/gu")
-    public ResponseEntity<List<GuPropertyCountDto>> countPropertiesByGu() {
-        List<GuPropertyCountDto> counts = propertyService.countPropertiesByGu();
-        return ResponseEntity.ok(counts);
+    public ResponseEntity<byte[]> countPropertiesByGu(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String etag = propertyVersionService.countEtag("count-gu");
+        return responseBytesCache.respond("property:count-gu", etag, ifNoneMatch, acceptEncoding,
+                () -> propertyService.countPropertiesByGu());
     }
 
     // 특정 동의 매물 전체 조회 API: GET /api/v1/property/dong/{dongId}
     @GetMapping("/dong/{dongId}")
-    public ResponseEntity<List<Property>> getPropertiesByDong(@PathVariable Integer dongId) {
-        List<Property> properties = propertyService.getPropertiesByDong(dongId);
-        return ResponseEntity.ok(properties);
+    public ResponseEntity<byte[]> getPropertiesByDong(
+            @PathVariable Integer dongId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String etag = propertyVersionService.dongEtag("dong", dongId);
+        return responseBytesCache.respond("property:dong:" + dongId, etag, ifNoneMatch, acceptEncoding,
+                () -> propertyService.getPropertiesByDong(dongId));
     }
 
     // 특정 구의 매물 조회 API: GET /api/v1/property/gu/{guName}
     @GetMapping("/gu/{guName}")
-    public ResponseEntity<List<Property>> getPropertiesByGu(@PathVariable String guName) {
-        List<Property> properties = propertyService.getPropertiesByGu(guName);
-        return ResponseEntity.ok(properties);
+    public ResponseEntity<List<PropertyCardDto>> getPropertiesByGu(
+            @PathVariable String guName,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = propertyVersionService.guEtag("gu", guName);
+        return ConditionalResponses.respond(etag, ifNoneMatch, () -> propertyService.getPropertiesByGu(guName));
     }
 
     // 특정 동의 원룸(혹은 1룸, 2룸) 매물 조회 API: GET /api/v1/property/dong/{dongId}/one-room
     @GetMapping("/dong/{dongId}/one-room")
-    public ResponseEntity<List<Property>> getOneRoomPropertiesByDong(@PathVariable Integer dongId) {
-        List<Property> properties = propertyService.getOneRoomPropertiesByDongId(dongId);
-        return ResponseEntity.ok(properties);
+    public ResponseEntity<byte[]> getOneRoomPropertiesByDong(
+            @PathVariable Integer dongId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String etag = propertyVersionService.dongEtag("dong-one-room", dongId);
+        return responseBytesCache.respond("property:dong-one-room:" + dongId, etag, ifNoneMatch, acceptEncoding,
+                () -> propertyService.getOneRoomPropertiesByDongId(dongId));
     }
 
     // 특정 동의 빌라 및 주택 매물 조회 API: GET /api/v1/property/dong/{dongId}/house
     @GetMapping("/dong/{dongId}/house")
-    public ResponseEntity<List<Property>> getHousePropertiesByDong(@PathVariable Integer dongId) {
-        List<Property> properties = propertyService.getHousePropertiesByDongId(dongId);
-        return ResponseEntity.ok(properties);
+    public ResponseEntity<byte[]> getHousePropertiesByDong(
+            @PathVariable Integer dongId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String etag = propertyVersionService.dongEtag("dong-house", dongId);
+        return responseBytesCache.respond("property:dong-house:" + dongId, etag, ifNoneMatch, acceptEncoding,
+                () -> propertyService.getHousePropertiesByDongId(dongId));
     }
 
     // 특정 동의 오피스텔 매물 조회 API: GET /api/v1/property/dong/{dongId}/office
     @GetMapping("/dong/{dongId}/office")
-    public ResponseEntity<List<Property>> getOfficePropertiesByDong(@PathVariable Integer dongId) {
-        List<Property> properties = propertyService.getOfficePropertiesByDongId(dongId);
-        return ResponseEntity.ok(properties);
+    public ResponseEntity<byte[]> getOfficePropertiesByDong(
+            @PathVariable Integer dongId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String etag = propertyVersionService.dongEtag("dong-office", dongId);
+        return responseBytesCache.respond("property:dong-office:" + dongId, etag, ifNoneMatch, acceptEncoding,
+                () -> propertyService.getOfficePropertiesByDongId(dongId));
     }
 
     // 특정 구의 원룸(혹은 1룸, 2룸) 매물 조회 API: GET /api/v1/property/gu/{guName}/one-room
     @GetMapping("/gu/{guName}/one-room")
-    public ResponseEntity<List<Property>> getOneRoomPropertiesByGu(@PathVariable String guName) {
-        List<Property> properties = propertyService.getOneRoomPropertiesByGuName(guName);
-        return ResponseEntity.ok(properties);
+    public ResponseEntity<List<PropertyCardDto>> getOneRoomPropertiesByGu(
+            @PathVariable String guName,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = propertyVersionService.guEtag("gu-one-room", guName);
+        return ConditionalResponses.respond(etag, ifNoneMatch, () -> propertyService.getOneRoomPropertiesByGuName(guName));
     }
 
     // 특정 구의 빌라 및 주택 매물 조회 API: GET /api/v1/property/gu/{guName}/house
     @GetMapping("/gu/{guName}/house")
-    public ResponseEntity<List<Property>> getHousePropertiesByGu(@PathVariable String guName) {
-        List<Property> properties = propertyService.getHousePropertiesByGuName(guName);
-        return ResponseEntity.ok(properties);
+    public ResponseEntity<List<PropertyCardDto>> getHousePropertiesByGu(
+            @PathVariable String guName,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = propertyVersionService.guEtag("gu-house", guName);
+        return ConditionalResponses.respond(etag, ifNoneMatch, () -> propertyService.getHousePropertiesByGuName(guName));
     }
 
     // 특정 구의 오피스텔 매물 조회 API: GET /api/v1/property/gu/{guName}/office
     @GetMapping("/gu/{guName}/office")
-    public ResponseEntity<List<Property>> getOfficePropertiesByGu(@PathVariable String guName) {
-        List<Property> properties = propertyService.getOfficePropertiesByGuName(guName);
-        return ResponseEntity.ok(properties);
+    public ResponseEntity<List<PropertyCardDto>> getOfficePropertiesByGu(
+            @PathVariable String guName,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = propertyVersionService.guEtag("gu-office", guName);
+        return ConditionalResponses.respond(etag, ifNoneMatch, () -> propertyService.getOfficePropertiesByGuName(guName));
     }
 
 
@@ -133,65 +206,84 @@ public class PropertyController {
 
     // 전체 원룸 매물 조회 API: GET /api/v1/property/type/one-room
     @GetMapping("/type/one-room")
-    public ResponseEntity<List<Property>> getAllOneRoomProperties() {
-        List<Property> properties = propertyService.getOneRoomProperties();
-        return ResponseEntity.ok(properties);
+    public ResponseEntity<List<PropertyCardDto>> getAllOneRoomProperties(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = propertyVersionService.allEtag("type-one-room");
+        return ConditionalResponses.respond(etag, ifNoneMatch, () -> propertyService.getOneRoomProperties());
     }
 
     // 전체 빌라/주택 매물 조회 API: GET /api/v1/property/type/house
     @GetMapping("/type/house")
-    public ResponseEntity<List<Property>> getAllHouseProperties() {
-        List<Property> properties = propertyService.getHouseProperties();
-        return ResponseEntity.ok(properties);
+    public ResponseEntity<List<PropertyCardDto>> getAllHouseProperties(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = propertyVersionService.allEtag("type-house");
+        return ConditionalResponses.respond(etag, ifNoneMatch, () -> propertyService.getHouseProperties());
     }
 
     // 전체 오피스텔 매물 조회 API: GET /api/v1/property/type/office
     @GetMapping("/type/office")
-    public ResponseEntity<List<Property>> getAllOfficeProperties() {
-        List<Property> properties = propertyService.getOfficeProperties();
-        return ResponseEntity.ok(properties);
+    public ResponseEntity<List<PropertyCardDto>> getAllOfficeProperties(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = propertyVersionService.allEtag("type-office");
+        return ConditionalResponses.respond(etag, ifNoneMatch, () -> propertyService.getOfficeProperties());
     }
 
     @GetMapping("/count/dong/one-room")
-    public ResponseEntity<List<DongPropertyCountDto>> countOneRoomPropertiesByDong() {
-        List<DongPropertyCountDto> counts = propertyService.countOneRoomPropertiesByDong();
-        return ResponseEntity.ok(counts);
+    public ResponseEntity<byte[]> countOneRoomPropertiesByDong(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String etag = propertyVersionService.countEtag("count-dong-one-room");
+        return responseBytesCache.respond("property:count-dong-one-room", etag, ifNoneMatch, acceptEncoding,
+                () -> propertyService.countOneRoomPropertiesByDong());
     }
 
     // 동별 빌라/주택 매물 개수 조회: GET /api/v1/property/count/dong/house
     @GetMapping("/count/dong/house")
-    public ResponseEntity<List<DongPropertyCountDto>> countHousePropertiesByDong() {
-        List<DongPropertyCountDto> counts = propertyService.countHousePropertiesByDong();
-        return ResponseEntity.ok(counts);
+    public ResponseEntity<byte[]> countHousePropertiesByDong(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String etag = propertyVersionService.countEtag("count-dong-house");
+        return responseBytesCache.respond("property:count-dong-house", etag, ifNoneMatch, acceptEncoding,
+                () -> propertyService.countHousePropertiesByDong());
     }
 
     // 동별 오피스텔 매물 개수 조회: GET /api/v1/property/count/dong/office
     @GetMapping("/count/dong/office")
-    public ResponseEntity<List<DongPropertyCountDto>> countOfficePropertiesByDong() {
-        List<DongPropertyCountDto> counts = propertyService.countOfficePropertiesByDong();
-        return ResponseEntity.ok(counts);
+    public ResponseEntity<byte[]> countOfficePropertiesByDong(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String etag = propertyVersionService.countEtag("count-dong-office");
+        return responseBytesCache.respond("property:count-dong-office", etag, ifNoneMatch, acceptEncoding,
+                () -> propertyService.countOfficePropertiesByDong());
     }
 
     // 구별 원룸 매물 개수 조회: GET /api/v1/property/count/gu/one-room
     @GetMapping("/count/gu/one-room")
-    public ResponseEntity<List<GuPropertyCountDto>> countOneRoomPropertiesByGu() {
-        List<GuPropertyCountDto> counts = propertyService.countOneRoomPropertiesByGu();
-        return ResponseEntity.ok(counts);
+    public ResponseEntity<byte[]> countOneRoomPropertiesByGu(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String etag = propertyVersionService.countEtag("count-gu-one-room");
+        return responseBytesCache.respond("property:count-gu-one-room", etag, ifNoneMatch, acceptEncoding,
+                () -> propertyService.countOneRoomPropertiesByGu());
     }
 
     // 구별 빌라/주택 매물 개수 조회: GET /api/v1/property/count/gu/house
     @GetMapping("/count/gu/house")
-    public ResponseEntity<List<GuPropertyCountDto>> countHousePropertiesByGu() {
-        List<GuPropertyCountDto> counts = propertyService.countHousePropertiesByGu();
-        return ResponseEntity.ok(counts);
+    public ResponseEntity<byte[]> countHousePropertiesByGu(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String etag = propertyVersionService.countEtag("count-gu-house");
+        return responseBytesCache.respond("property:count-gu-house", etag, ifNoneMatch, acceptEncoding,
+                () -> propertyService.countHousePropertiesByGu());
     }
 
     // 구별 오피스텔 매물 개수 조회: GET /api/v1/property/count/gu/office
     @GetMapping("/count/gu/office")
-    public ResponseEntity<List<GuPropertyCountDto>> countOfficePropertiesByGu() {
-        List<GuPropertyCountDto> counts = propertyService.countOfficePropertiesByGu();
-        return ResponseEntity.ok(counts);
+    public ResponseEntity<byte[]> countOfficePropertiesByGu(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String etag = propertyVersionService.countEtag("count-gu-office");
+        return responseBytesCache.respond("property:count-gu-office", etag, ifNoneMatch, acceptEncoding,
+                () -> propertyService.countOfficePropertiesByGu());
     }
-
-
 }
@@ -0,0 +1,18 @@
+package com.zeepseek.backend.domain.property.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 희망 목적지(UserPreferences) 기준 도보 시간 검색 조건
+ * page 는 1부터 시작합니다. (검색 API 와 동일)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommutePropertiesRequestDto {
+    private int maxMinutes = 20;
+    private int page = 1;
+    private int size = 20;
+}
@@ -0,0 +1,21 @@
+package com.zeepseek.backend.domain.property.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 한 지점 주변 최근접 매물 조회 조건
+ * minRent / maxRent 는 월세(monthlyRent) 범위이며, 하나라도 지정하면 월세 정보가 없는 매물은 제외됩니다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NearestPropertiesRequestDto {
+    private Double lat;
+    private Double lng;
+    private int k = 20;
+    private Integer minRent;
+    private Integer maxRent;
+    private Double maxDistanceKm;
+}
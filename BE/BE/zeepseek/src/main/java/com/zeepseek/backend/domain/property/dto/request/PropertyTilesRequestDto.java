@@ -0,0 +1,20 @@
+package com.zeepseek.backend.domain.property.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 타일 단위 매물 조회 요청
+ * quadkeys 를 직접 지정하거나, viewport + zoom 을 보내면 해당 범위를 덮는 타일로 스냅합니다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PropertyTilesRequestDto {
+    private List<String> quadkeys;
+    private CellBoundsDto viewport;
+    private Integer zoom;
+}
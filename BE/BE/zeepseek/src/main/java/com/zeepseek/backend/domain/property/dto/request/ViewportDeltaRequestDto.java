@@ -0,0 +1,18 @@
+package com.zeepseek.backend.domain.property.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지도 이동 시 변경분 조회 요청
+ * previousViewport 와 version 은 직전 응답을 받을 때의 뷰포트와 응답의 version 입니다. (첫 요청은 생략)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ViewportDeltaRequestDto {
+    private CellBoundsDto previousViewport;
+    private CellBoundsDto viewport;
+    private Long version;
+}
@@ -1,18 +1,14 @@
 package com.zeepseek.backend.domain.property.dto.response;
 
 import com.zeepseek.backend.domain.property.dto.request.CellBoundsDto;
-import com.zeepseek.backend.domain.property.model.Property;
-import com.zeepseek.backend.domain.property.model.PropertyWithLiked;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.List;
-
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class CellPropertiesDto {
     private CellBoundsDto cell;
-    private List<Property> properties;
+    private PropertyCardList properties;
 }
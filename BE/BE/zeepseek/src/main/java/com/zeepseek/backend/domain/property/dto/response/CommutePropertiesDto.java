@@ -0,0 +1,21 @@
+package com.zeepseek.backend.domain.property.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 목적지까지 도보 시간 순 매물 목록 (한 페이지)
+ * 목적지 주소/좌표는 회원 개인 정보이므로 응답에 포함하지 않습니다.
+ * walkingSeconds[i] 는 properties 의 i 번째 매물에서 목적지까지의 예상 도보 시간(초)입니다.
+ * total 은 조건을 만족하는 전체 매물 수입니다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommutePropertiesDto {
+    private int maxMinutes;
+    private int total;
+    private PropertyCardList properties;
+    private int[] walkingSeconds;
+}
@@ -0,0 +1,19 @@
+package com.zeepseek.backend.domain.property.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 최근접 매물 응답 (가까운 순서)
+ * distancesKm[i] 는 properties 의 i 번째 매물까지의 하버사인 거리(km)입니다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NearestPropertiesDto {
+    private double latitude;
+    private double longitude;
+    private PropertyCardList properties;
+    private double[] distancesKm;
+}
@@ -0,0 +1,50 @@
+package com.zeepseek.backend.domain.property.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 목록/지도 화면용 매물 카드
+ * 상세 컬럼은 제외하고 카드 표시에 필요한 컬럼만 조회하며, description(@Lob)은 DB 에서 앞부분만 잘라 가져옵니다.
+ * (PropertyRepository.CARD_DESCRIPTION_LENGTH 자) 전체 설명은 GET /api/v1/property/{propertyId} 에서 조회합니다.
+ * imageUrl 은 목록의 img src 로 그대로 쓰는 단일 URL 이며 별도 썸네일 컬럼은 없습니다.
+ * 지도 응답의 찜 여부는 카드에 두지 않고 PropertyCardList 가 직렬화 시점에 붙입니다.
+ * (이전 형식으로 캐시된 카드의 liked 필드는 무시)
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+@NoArgsConstructor
+public class PropertyCardDto {
+    private Integer propertyId;
+    private String roomType;
+    private String contractType;
+    private String price;
+    private String address;
+    private String description; // 앞부분만 (목록 표시용)
+    private Integer deposit;
+    private Integer monthlyRent;
+    private Double latitude;
+    private Double longitude;
+    private String imageUrl;
+    private Integer dongId;
+
+    // JPQL constructor expression 용 생성자 (PropertyRepository.CARD_SELECT 와 순서 일치)
+    public PropertyCardDto(Integer propertyId, String roomType, String contractType, String price, String address,
+                           String description, Integer deposit, Integer monthlyRent, Double latitude, Double longitude,
+                           String imageUrl, Integer dongId) {
+        this.propertyId = propertyId;
+        this.roomType = roomType;
+        this.contractType = contractType;
+        this.price = price;
+        this.address = address;
+        this.description = description;
+        this.deposit = deposit;
+        this.monthlyRent = monthlyRent;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.imageUrl = imageUrl;
+        this.dongId = dongId;
+    }
+
+}
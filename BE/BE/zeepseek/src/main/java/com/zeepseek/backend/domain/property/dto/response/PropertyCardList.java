@@ -0,0 +1,37 @@
+package com.zeepseek.backend.domain.property.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.zeepseek.backend.domain.zzim.service.LikedSet;
+
+import java.util.List;
+
+/**
+ * 지도 응답용 매물 카드 목록 + 사용자 찜 집합
+ *
+ * 카드를 복사하거나 변경하지 않고, 직렬화 시점에 각 카드 뒤에 liked 필드를 붙여 씁니다.
+ * (PropertyCardListSerializer, JSON 형식은 liked 필드가 포함된 카드 배열)
+ * 카드 목록은 타일 캐시(L1)에서 여러 요청이 공유하는 리스트를 그대로 담습니다.
+ */
+@JsonSerialize(using = PropertyCardListSerializer.class)
+public class PropertyCardList {
+
+    private final List<PropertyCardDto> cards;
+    private final LikedSet likedSet;
+
+    public PropertyCardList(List<PropertyCardDto> cards, LikedSet likedSet) {
+        this.cards = cards;
+        this.likedSet = likedSet != null ? likedSet : LikedSet.empty();
+    }
+
+    public List<PropertyCardDto> getCards() {
+        return cards;
+    }
+
+    public int size() {
+        return cards.size();
+    }
+
+    public boolean isLiked(PropertyCardDto card) {
+        return likedSet.isPropertyLiked(card.getPropertyId());
+    }
+}
@@ -0,0 +1,36 @@
+package com.zeepseek.backend.domain.property.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+import java.io.IOException;
+
+/**
+ * PropertyCardList -> [{카드 필드..., "liked": true|false}, ...]
+ *
+ * 카드 필드는 PropertyCardDto 의 기본 Bean 직렬화기를 unwrapping 모드로 사용해 쓰고,
+ * 찜 여부만 LikedSet 에서 조회해 뒤에 덧붙입니다.
+ */
+public class PropertyCardListSerializer extends StdSerializer<PropertyCardList> {
+
+    public PropertyCardListSerializer() {
+        super(PropertyCardList.class);
+    }
+
+    @Override
+    public void serialize(PropertyCardList value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonSerializer<Object> cardSerializer = provider.findValueSerializer(PropertyCardDto.class)
+                .unwrappingSerializer(NameTransformer.NOP);
+        gen.writeStartArray(value, value.size());
+        for (PropertyCardDto card : value.getCards()) {
+            gen.writeStartObject(card);
+            cardSerializer.serialize(card, gen, provider);
+            gen.writeBooleanField("liked", value.isLiked(card));
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+}
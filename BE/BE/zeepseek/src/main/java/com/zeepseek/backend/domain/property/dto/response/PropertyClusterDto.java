@@ -0,0 +1,16 @@
+package com.zeepseek.backend.domain.property.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PropertyClusterDto {
+    private double latitude;       // 클러스터 중심점 (매물 좌표 평균)
+    private double longitude;
+    private int count;             // 매물 수
+    private Integer minMonthlyRent; // 월세 정보가 없으면 null
+    private Double avgMonthlyRent;
+}
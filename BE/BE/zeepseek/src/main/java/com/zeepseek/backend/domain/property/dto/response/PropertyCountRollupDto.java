@@ -0,0 +1,13 @@
+package com.zeepseek.backend.domain.property.dto.response;
+
+/**
+ * 매물 개수 집계 큐브 적재용 프로젝션 ((dongId, guName, categoryFlags) 별 개수, 내용 체크섬)
+ */
+public interface PropertyCountRollupDto {
+    Integer getDongId();
+    String getGuName();
+    Integer getCategoryFlags();
+    Long getPropertyCount();
+    Integer getMaxPropertyId();
+    Long getChecksum();
+}
@@ -0,0 +1,19 @@
+package com.zeepseek.backend.domain.property.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 동/구 별 매물 개수 전체 (key: 매물 타입 "all", "one-room", "house", "office")
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyCountsDto {
+    private Map<String, List<DongPropertyCountDto>> dong;
+    private Map<String, List<GuPropertyCountDto>> gu;
+}
@@ -0,0 +1,12 @@
+package com.zeepseek.backend.domain.property.dto.response;
+
+/**
+ * 공간 인덱스 적재용 프로젝션 (좌표, 타입 판별, 집계에 필요한 컬럼만 조회)
+ */
+public interface PropertyPointDto {
+    Integer getPropertyId();
+    Double getLatitude();
+    Double getLongitude();
+    Integer getCategoryFlags();
+    Integer getMonthlyRent();
+}
@@ -0,0 +1,15 @@
+package com.zeepseek.backend.domain.property.dto.response;
+
+import com.zeepseek.backend.domain.property.dto.request.CellBoundsDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TilePropertiesDto {
+    private String quadkey;
+    private CellBoundsDto cell;
+    private PropertyCardList properties;
+}
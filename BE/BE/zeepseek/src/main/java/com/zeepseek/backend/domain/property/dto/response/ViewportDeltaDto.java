@@ -0,0 +1,21 @@
+package com.zeepseek.backend.domain.property.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지도 이동 시 변경분 응답
+ * - full=false: 클라이언트 목록에 added 를 더하고 removed 의 매물을 지웁니다.
+ * - full=true : 클라이언트 목록을 added 로 교체합니다. (첫 요청, 인덱스 버전 변경 시)
+ * version 은 다음 요청에 그대로 보냅니다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ViewportDeltaDto {
+    private long version;
+    private boolean full;
+    private PropertyCardList added;
+    private int[] removed;
+}
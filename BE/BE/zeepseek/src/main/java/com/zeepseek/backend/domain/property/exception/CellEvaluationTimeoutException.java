@@ -0,0 +1,7 @@
+package com.zeepseek.backend.domain.property.exception;
+
+public class CellEvaluationTimeoutException extends RuntimeException {
+    public CellEvaluationTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.zeepseek.backend.domain.property.exception;
+
+public class InvalidPropertyQueryException extends RuntimeException {
+    public InvalidPropertyQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.zeepseek.backend.domain.property.exception;
+
+public class InvalidTileException extends RuntimeException {
+    public InvalidTileException(String message) {
+        super(message);
+    }
+}
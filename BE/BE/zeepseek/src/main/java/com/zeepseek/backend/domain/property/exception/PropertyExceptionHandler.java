@@ -13,5 +13,20 @@ public class PropertyExceptionHandler {
         return new ResponseEntity<>(ex.getMessage(), HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(InvalidTileException.class)
+    public ResponseEntity<String> handleInvalidTile(InvalidTileException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidPropertyQueryException.class)
+    public ResponseEntity<String> handleInvalidPropertyQuery(InvalidPropertyQueryException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(CellEvaluationTimeoutException.class)
+    public ResponseEntity<String> handleCellEvaluationTimeout(CellEvaluationTimeoutException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     // 필요에 따라 다른 커스텀 예외들도 처리할 수 있습니다.
 }
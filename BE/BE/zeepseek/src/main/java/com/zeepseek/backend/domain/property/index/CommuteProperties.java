@@ -0,0 +1,34 @@
+package com.zeepseek.backend.domain.property.index;
+
+/**
+ * 목적지까지 도보 시간이 기준 이내인 매물 id 와 도보 시간(초), 도보 시간 -> id 순으로 정렬
+ * ids[i] 의 도보 시간이 walkingSeconds[i] 입니다.
+ */
+public final class CommuteProperties {
+
+    private final long version;
+    private final int[] ids;
+    private final int[] walkingSeconds;
+
+    CommuteProperties(long version, int[] ids, int[] walkingSeconds) {
+        this.version = version;
+        this.ids = ids;
+        this.walkingSeconds = walkingSeconds;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int[] getIds() {
+        return ids;
+    }
+
+    public int[] getWalkingSeconds() {
+        return walkingSeconds;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+}
@@ -0,0 +1,147 @@
+package com.zeepseek.backend.domain.property.index;
+
+import com.zeepseek.backend.domain.property.dto.request.CellBoundsDto;
+import com.zeepseek.backend.domain.property.exception.InvalidTileException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 웹 메르카토르(slippy map) 타일 좌표 (zoom, x, y) 및 quadkey 변환
+ */
+public final class MapTile {
+
+    private static final double MAX_LAT = 85.05112878;
+
+    private final int zoom;
+    private final int x;
+    private final int y;
+
+    public MapTile(int zoom, int x, int y) {
+        this.zoom = zoom;
+        this.x = x;
+        this.y = y;
+    }
+
+    public int getZoom() {
+        return zoom;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * 좌표가 속한 타일
+     */
+    public static MapTile containing(double lat, double lng, int zoom) {
+        int n = 1 << zoom;
+        double clampedLat = Math.max(-MAX_LAT, Math.min(MAX_LAT, lat));
+        double latRad = Math.toRadians(clampedLat);
+        int x = (int) Math.floor((lng + 180.0) / 360.0 * n);
+        int y = (int) Math.floor((1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2 * n);
+        return new MapTile(zoom, Math.max(0, Math.min(n - 1, x)), Math.max(0, Math.min(n - 1, y)));
+    }
+
+    /**
+     * 범위를 덮는 타일 수 (covering 이 만들 목록의 크기, 목록을 만들기 전에 요청 크기를 제한할 때 사용)
+     */
+    public static long coveringCount(CellBoundsDto bounds, int zoom) {
+        MapTile topLeft = containing(bounds.getMaxLat(), bounds.getMinLng(), zoom);
+        MapTile bottomRight = containing(bounds.getMinLat(), bounds.getMaxLng(), zoom);
+        return (long) (bottomRight.x - topLeft.x + 1) * (bottomRight.y - topLeft.y + 1);
+    }
+
+    /**
+     * 범위를 덮는 타일 목록 (범위를 타일 경계로 스냅)
+     */
+    public static List<MapTile> covering(CellBoundsDto bounds, int zoom) {
+        MapTile topLeft = containing(bounds.getMaxLat(), bounds.getMinLng(), zoom);
+        MapTile bottomRight = containing(bounds.getMinLat(), bounds.getMaxLng(), zoom);
+        List<MapTile> tiles = new ArrayList<>();
+        for (int ty = topLeft.y; ty <= bottomRight.y; ty++) {
+            for (int tx = topLeft.x; tx <= bottomRight.x; tx++) {
+                tiles.add(new MapTile(zoom, tx, ty));
+            }
+        }
+        return tiles;
+    }
+
+    public static MapTile fromQuadkey(String quadkey) {
+        if (quadkey == null || quadkey.isEmpty() || quadkey.length() > 30) {
+            throw new InvalidTileException("Invalid quadkey: " + quadkey);
+        }
+        int x = 0, y = 0;
+        int zoom = quadkey.length();
+        for (int i = 0; i < zoom; i++) {
+            int mask = 1 << (zoom - i - 1);
+            switch (quadkey.charAt(i)) {
+                case '0':
+                    break;
+                case '1':
+                    x |= mask;
+                    break;
+                case '2':
+                    y |= mask;
+                    break;
+                case '3':
+                    x |= mask;
+                    y |= mask;
+                    break;
+                default:
+                    throw new InvalidTileException("Invalid quadkey: " + quadkey);
+            }
+        }
+        return new MapTile(zoom, x, y);
+    }
+
+    public String getQuadkey() {
+        StringBuilder sb = new StringBuilder(zoom);
+        for (int i = zoom; i > 0; i--) {
+            int mask = 1 << (i - 1);
+            int digit = 0;
+            if ((x & mask) != 0) {
+                digit += 1;
+            }
+            if ((y & mask) != 0) {
+                digit += 2;
+            }
+            sb.append(digit);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 타일의 위경도 범위
+     */
+    public CellBoundsDto toBounds() {
+        int n = 1 << zoom;
+        double minLng = x / (double) n * 360.0 - 180.0;
+        double maxLng = (x + 1) / (double) n * 360.0 - 180.0;
+        double maxLat = tileLat(y, n);
+        double minLat = tileLat(y + 1, n);
+        return new CellBoundsDto(minLat, maxLat, minLng, maxLng);
+    }
+
+    private static double tileLat(int ty, int n) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2.0 * ty / n))));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MapTile)) return false;
+        MapTile other = (MapTile) o;
+        return zoom == other.zoom && x == other.x && y == other.y;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(zoom, x, y);
+    }
+}
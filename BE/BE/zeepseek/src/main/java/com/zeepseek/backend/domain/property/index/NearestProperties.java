@@ -0,0 +1,34 @@
+package com.zeepseek.backend.domain.property.index;
+
+/**
+ * 한 지점에서 가까운 순서로 정렬된 매물 id 와 하버사인 거리(km)
+ * ids[i] 의 거리가 distancesKm[i] 입니다.
+ */
+public final class NearestProperties {
+
+    private final long version;
+    private final int[] ids;
+    private final double[] distancesKm;
+
+    NearestProperties(long version, int[] ids, double[] distancesKm) {
+        this.version = version;
+        this.ids = ids;
+        this.distancesKm = distancesKm;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int[] getIds() {
+        return ids;
+    }
+
+    public double[] getDistancesKm() {
+        return distancesKm;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+}
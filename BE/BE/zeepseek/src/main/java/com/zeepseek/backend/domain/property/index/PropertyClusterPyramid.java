@@ -0,0 +1,238 @@
+package com.zeepseek.backend.domain.property.index;
+
+import com.zeepseek.backend.domain.property.dto.response.PropertyClusterDto;
+import com.zeepseek.backend.domain.property.model.PropertyCategory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 줌 레벨별 클러스터 집계를 미리 계산해 둔 격자 피라미드
+ *
+ * 줌 레벨 z 의 클러스터 한 칸은 360 / 2^z / CELLS_PER_TILE 도 크기이며,
+ * (위도 -90, 경도 -180) 기준의 전역 격자에 맞춰 정렬됩니다.
+ * 각 칸마다 타입(PropertyCategory)별 개수, 좌표 합(중심점 계산용), 월세 최소/합계를 보관합니다.
+ * 증분 적재 시에는 withPoints 로 추가된 매물이 속한 칸만 더하고, 나머지 칸의 집계는 그대로 복사합니다.
+ */
+final class PropertyClusterPyramid {
+
+    // 지도 타일 한 변을 몇 개의 클러스터로 나눌지
+    private static final int CELLS_PER_TILE = 4;
+    private static final int CATEGORY_COUNT = PropertyCategory.values().length;
+
+    private final int minZoom;
+    private final int maxZoom;
+    private final Level[] levels;
+
+    private PropertyClusterPyramid(int minZoom, int maxZoom, Level[] levels) {
+        this.minZoom = minZoom;
+        this.maxZoom = maxZoom;
+        this.levels = levels;
+    }
+
+    /**
+     * @param rents 월세 (값이 없으면 음수)
+     */
+    static PropertyClusterPyramid build(double[] lats, double[] lngs, byte[] flags, int[] rents,
+                                        int minZoom, int maxZoom) {
+        Level[] levels = new Level[maxZoom - minZoom + 1];
+        for (int zoom = minZoom; zoom <= maxZoom; zoom++) {
+            levels[zoom - minZoom] = Level.build(lats, lngs, flags, rents, cellSizeOf(zoom));
+        }
+        return new PropertyClusterPyramid(minZoom, maxZoom, levels);
+    }
+
+    /**
+     * 추가된 매물(lats 등의 [from, to) 구간)만 더한 새 피라미드 (기존 피라미드는 변경하지 않음)
+     * 전체 매물을 다시 칸에 배정하지 않고, 새 매물의 칸만 찾아 갱신합니다.
+     */
+    PropertyClusterPyramid withPoints(double[] lats, double[] lngs, byte[] flags, int[] rents, int from, int to) {
+        Level[] merged = new Level[levels.length];
+        for (int i = 0; i < levels.length; i++) {
+            merged[i] = levels[i].withPoints(lats, lngs, flags, rents, from, to);
+        }
+        return new PropertyClusterPyramid(minZoom, maxZoom, merged);
+    }
+
+    /**
+     * 범위가 걸치는 zoom 레벨의 클러스터 칸 수 (query 가 훑는 칸 수)
+     */
+    static long cellCount(double minLat, double maxLat, double minLng, double maxLng, int zoom) {
+        double cellSize = cellSizeOf(zoom);
+        return (Level.row(maxLat, cellSize) - Level.row(minLat, cellSize) + 1)
+                * (Level.col(maxLng, cellSize) - Level.col(minLng, cellSize) + 1);
+    }
+
+    static double cellSizeOf(int zoom) {
+        return 360.0 / (1L << zoom) / CELLS_PER_TILE;
+    }
+
+    List<PropertyClusterDto> query(double minLat, double maxLat, double minLng, double maxLng,
+                                   int zoom, PropertyCategory category) {
+        int clamped = Math.max(minZoom, Math.min(maxZoom, zoom));
+        return levels[clamped - minZoom].query(minLat, maxLat, minLng, maxLng, category.ordinal());
+    }
+
+    private static final class Level {
+        final double cellSize;
+        // (row << 32 | col) 오름차순 정렬
+        final long[] keys;
+        final int[][] counts;
+        final double[][] sumLats;
+        final double[][] sumLngs;
+        final int[][] rentCounts;
+        final long[][] rentSums;
+        final int[][] rentMins;
+
+        private Level(double cellSize, long[] keys) {
+            int m = keys.length;
+            this.cellSize = cellSize;
+            this.keys = keys;
+            this.counts = new int[CATEGORY_COUNT][m];
+            this.sumLats = new double[CATEGORY_COUNT][m];
+            this.sumLngs = new double[CATEGORY_COUNT][m];
+            this.rentCounts = new int[CATEGORY_COUNT][m];
+            this.rentSums = new long[CATEGORY_COUNT][m];
+            this.rentMins = new int[CATEGORY_COUNT][m];
+            for (int[] mins : rentMins) {
+                Arrays.fill(mins, Integer.MAX_VALUE);
+            }
+        }
+
+        static Level build(double[] lats, double[] lngs, byte[] flags, int[] rents, double cellSize) {
+            int n = lats.length;
+            long[] pointKeys = new long[n];
+            for (int i = 0; i < n; i++) {
+                pointKeys[i] = key(row(lats[i], cellSize), col(lngs[i], cellSize));
+            }
+            long[] keys = Arrays.stream(pointKeys).distinct().sorted().toArray();
+            Map<Long, Integer> slotOf = new HashMap<>(keys.length * 2);
+            for (int s = 0; s < keys.length; s++) {
+                slotOf.put(keys[s], s);
+            }
+
+            Level level = new Level(cellSize, keys);
+            PropertyCategory[] categories = PropertyCategory.values();
+            for (int i = 0; i < n; i++) {
+                int slot = slotOf.get(pointKeys[i]);
+                for (PropertyCategory category : categories) {
+                    if (category.matches(flags[i])) {
+                        level.add(category.ordinal(), slot, lats[i], lngs[i], rents[i]);
+                    }
+                }
+            }
+            return level;
+        }
+
+        /**
+         * 기존 칸 키와 새 매물의 칸 키를 합친 정렬 키 배열을 만들고, 기존 집계를 새 위치로 복사한 뒤 새 매물만 더합니다.
+         */
+        Level withPoints(double[] lats, double[] lngs, byte[] flags, int[] rents, int from, int to) {
+            long[] added = new long[to - from];
+            for (int i = from; i < to; i++) {
+                added[i - from] = key(row(lats[i], cellSize), col(lngs[i], cellSize));
+            }
+            long[] newKeys = Arrays.stream(added)
+                    .filter(k -> Arrays.binarySearch(keys, k) < 0)
+                    .distinct()
+                    .sorted()
+                    .toArray();
+
+            // 기존 칸 s 는 merged 의 slotOf[s] 번째 칸 (새 칸이 없으면 키 배열을 그대로 공유)
+            long[] merged;
+            int[] slotOf = new int[keys.length];
+            if (newKeys.length == 0) {
+                merged = keys;
+                for (int s = 0; s < keys.length; s++) {
+                    slotOf[s] = s;
+                }
+            } else {
+                merged = new long[keys.length + newKeys.length];
+                int s = 0, t = 0, m = 0;
+                while (s < keys.length || t < newKeys.length) {
+                    if (t == newKeys.length || (s < keys.length && keys[s] < newKeys[t])) {
+                        slotOf[s] = m;
+                        merged[m++] = keys[s++];
+                    } else {
+                        merged[m++] = newKeys[t++];
+                    }
+                }
+            }
+
+            Level level = new Level(cellSize, merged);
+            for (int c = 0; c < CATEGORY_COUNT; c++) {
+                for (int old = 0; old < keys.length; old++) {
+                    int slot = slotOf[old];
+                    level.counts[c][slot] = counts[c][old];
+                    level.sumLats[c][slot] = sumLats[c][old];
+                    level.sumLngs[c][slot] = sumLngs[c][old];
+                    level.rentCounts[c][slot] = rentCounts[c][old];
+                    level.rentSums[c][slot] = rentSums[c][old];
+                    level.rentMins[c][slot] = rentMins[c][old];
+                }
+            }
+            PropertyCategory[] categories = PropertyCategory.values();
+            for (int i = from; i < to; i++) {
+                int slot = Arrays.binarySearch(merged, added[i - from]);
+                for (PropertyCategory category : categories) {
+                    if (category.matches(flags[i])) {
+                        level.add(category.ordinal(), slot, lats[i], lngs[i], rents[i]);
+                    }
+                }
+            }
+            return level;
+        }
+
+        private void add(int c, int slot, double lat, double lng, int rent) {
+            counts[c][slot]++;
+            sumLats[c][slot] += lat;
+            sumLngs[c][slot] += lng;
+            if (rent >= 0) {
+                rentCounts[c][slot]++;
+                rentSums[c][slot] += rent;
+                rentMins[c][slot] = Math.min(rentMins[c][slot], rent);
+            }
+        }
+
+        List<PropertyClusterDto> query(double minLat, double maxLat, double minLng, double maxLng, int c) {
+            List<PropertyClusterDto> result = new ArrayList<>();
+            long rowFrom = row(minLat, cellSize), rowTo = row(maxLat, cellSize);
+            long colFrom = col(minLng, cellSize), colTo = col(maxLng, cellSize);
+            for (long row = rowFrom; row <= rowTo; row++) {
+                int from = lowerBound(key(row, colFrom));
+                long last = key(row, colTo);
+                for (int s = from; s < keys.length && keys[s] <= last; s++) {
+                    int count = counts[c][s];
+                    if (count == 0) {
+                        continue;
+                    }
+                    Integer minRent = rentCounts[c][s] > 0 ? rentMins[c][s] : null;
+                    Double avgRent = rentCounts[c][s] > 0 ? (double) rentSums[c][s] / rentCounts[c][s] : null;
+                    result.add(new PropertyClusterDto(
+                            sumLats[c][s] / count, sumLngs[c][s] / count, count, minRent, avgRent));
+                }
+            }
+            return result;
+        }
+
+        private int lowerBound(long target) {
+            int idx = Arrays.binarySearch(keys, target);
+            return idx >= 0 ? idx : -idx - 1;
+        }
+
+        private static long row(double lat, double cellSize) {
+            return (long) Math.floor((lat + 90.0) / cellSize);
+        }
+
+        private static long col(double lng, double cellSize) {
+            return (long) Math.floor((lng + 180.0) / cellSize);
+        }
+
+        private static long key(long row, long col) {
+            return (row << 32) | col;
+        }
+    }
+}
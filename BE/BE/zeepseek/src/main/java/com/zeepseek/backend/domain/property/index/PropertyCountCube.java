@@ -0,0 +1,350 @@
+package com.zeepseek.backend.domain.property.index;
+
+import com.zeepseek.backend.domain.property.dto.response.DongPropertyCountDto;
+import com.zeepseek.backend.domain.property.dto.response.DongPropertyCountDtoImpl;
+import com.zeepseek.backend.domain.property.dto.response.GuPropertyCountDto;
+import com.zeepseek.backend.domain.property.dto.response.GuPropertyCountDtoImpl;
+import com.zeepseek.backend.domain.property.dto.response.PropertyCountRollupDto;
+import com.zeepseek.backend.domain.property.model.PropertyCategory;
+import com.zeepseek.backend.domain.property.repository.PropertyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * (dongId, guName, category_flags) 별 매물 개수를 메모리에 유지하는 집계 큐브
+ *
+ * - 기동 시 미리 집계하고(warm-up), 일정 주기로 요청 경로 밖에서 전체 재집계합니다. (refresh-ahead, 삭제/수정 반영)
+ * - 공간 인덱스 전체 재적재 시에도 다시 집계하고, 증분 적재 시에는 마지막으로 반영한 propertyId 이후 매물의 개수만 더합니다.
+ * - 동시에 들어온 재집계 요청은 하나로 합쳐집니다. (먼저 끝난 집계가 요청 이후에 시작된 것이면 생략)
+ * 동/구 x 타입 별 결과 목록은 스냅샷을 만들 때 미리 계산해 두므로 조회는 목록을 그대로 반환합니다.
+ * 동/구 별로 매물 내용 체크섬(행별 CRC32 의 XOR)도 함께 유지합니다.
+ * 갱신 후 개수 또는 체크섬이 바뀐 동/구가 있으면 PropertyCountsChangedEvent 를 발행합니다. (조회 API ETag 버전용)
+ * 따라서 가격/이미지/설명만 바뀐 수정도 다음 전체 재집계(rebuild-ms) 때 ETag 에 반영됩니다.
+ * 개수 응답은 이 노드의 스냅샷 내용 해시(getContentVersion)로 캐시/검증합니다.
+ * 노드마다 재집계 시점이 달라 공유 버전(ETag) 기준으로는 다른 노드의 개수가 섞일 수 있기 때문입니다.
+ * 좌표가 없는 매물도 개수에 포함됩니다.
+ * 동/구가 없는(null) 매물은 기존 GROUP BY 조회처럼 null 동/구 항목 하나로 묶어 목록 맨 앞에 둡니다.
+ *
+ * 삭제, 그리고 동/타입이 바뀌는 수정(이동)은 증분 갱신으로 빼거나 옮기지 않고 전체 재집계 때만 반영합니다.
+ * 매물 데이터는 외부 적재 작업이 DB 에 직접 반영하고 이 애플리케이션에는 매물 수정/삭제 경로가 없어
+ * 변경을 알 수 있는 방법이 재집계(propertyId 범위 밖 변경은 감지 불가)뿐이기 때문입니다.
+ * 재집계 주기(property.count-cube.rebuild-ms, 기본 15분)가 기존 개수 캐시 TTL(20분)보다 짧으므로
+ * 반영 지연은 캐시를 쓰던 때보다 길어지지 않습니다. 수정/삭제 경로를 추가한다면 그 시점에 rebuild 를 요청하면 됩니다.
+ *
+ * 메트릭: property.count-cube.requests (result=hit|miss), property.count-cube.refresh (type=full|incremental)
+ */
+@Slf4j
+@Component
+public class PropertyCountCube {
+
+    private static final int FLAG_VALUES = 8;
+
+    private final PropertyRepository propertyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer fullRefreshTimer;
+    private final Timer incrementalRefreshTimer;
+
+    private volatile Snapshot snapshot;
+    // 마지막으로 완료된 전체 집계가 시작된 시각 (System.nanoTime)
+    private long lastRebuildStartedAt;
+    private boolean rebuilt;
+
+    public PropertyCountCube(PropertyRepository propertyRepository, ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry) {
+        this.propertyRepository = propertyRepository;
+        this.eventPublisher = eventPublisher;
+        this.hitCounter = meterRegistry.counter("property.count-cube.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("property.count-cube.requests", "result", "miss");
+        this.fullRefreshTimer = meterRegistry.timer("property.count-cube.refresh", "type", "full");
+        this.incrementalRefreshTimer = meterRegistry.timer("property.count-cube.refresh", "type", "incremental");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ensureLoaded();
+    }
+
+    /**
+     * 기존 Redis 캐시 TTL(20분)보다 짧은 주기로 미리 재집계하여 조회 시점에 집계가 일어나지 않도록 합니다.
+     */
+    @Scheduled(initialDelayString = "${property.count-cube.rebuild-ms:900000}",
+            fixedDelayString = "${property.count-cube.rebuild-ms:900000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("매물 개수 큐브 주기 재집계 실패", e);
+        }
+    }
+
+    @EventListener
+    public void onIndexUpdated(PropertyIndexUpdatedEvent event) {
+        if (event.isFullReload()) {
+            rebuild();
+        } else {
+            refresh();
+        }
+    }
+
+    /**
+     * 전체 재집계
+     * 대기하는 동안 이 요청 이후에 시작된 전체 집계가 끝났다면 그 결과를 그대로 사용합니다.
+     */
+    public void rebuild() {
+        long requestedAt = System.nanoTime();
+        synchronized (this) {
+            if (rebuilt && lastRebuildStartedAt - requestedAt >= 0) {
+                return;
+            }
+            doRebuild();
+        }
+    }
+
+    private synchronized void ensureLoaded() {
+        if (snapshot == null) {
+            doRebuild();
+        }
+    }
+
+    private void doRebuild() {
+        long startedAt = System.nanoTime();
+        List<PropertyCountRollupDto> rows = propertyRepository.countRollupAfter(0);
+        Snapshot previous = this.snapshot;
+        Snapshot next = Snapshot.build(rows, null);
+        this.snapshot = next;
+        publishChanges(previous, next);
+        this.lastRebuildStartedAt = startedAt;
+        this.rebuilt = true;
+        long elapsed = System.nanoTime() - startedAt;
+        fullRefreshTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("매물 개수 큐브 전체 집계 완료: {}개 동, {}개 구, {}ms",
+                next.dongCounts.size(), next.guCounts.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    /**
+     * 마지막으로 반영한 propertyId 이후에 추가된 매물 개수만 반영
+     */
+    public synchronized void refresh() {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            ensureLoaded();
+            return;
+        }
+        long startedAt = System.nanoTime();
+        List<PropertyCountRollupDto> rows = propertyRepository.countRollupAfter(current.maxPropertyId);
+        if (rows.isEmpty()) {
+            return;
+        }
+        Snapshot next = Snapshot.build(rows, current);
+        this.snapshot = next;
+        publishChanges(current, next);
+        incrementalRefreshTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        log.info("매물 개수 큐브 증분 반영: {}개 그룹", rows.size());
+    }
+
+    private void publishChanges(Snapshot previous, Snapshot next) {
+        if (previous == null) {
+            eventPublisher.publishEvent(new PropertyCountsChangedEvent(this, true, Set.of(), Set.of()));
+            return;
+        }
+        Set<Integer> dongIds = changedKeys(previous.dongCounts, next.dongCounts);
+        dongIds.addAll(changedKeys(previous.dongChecksums, next.dongChecksums));
+        Set<String> guNames = changedKeys(previous.guCounts, next.guCounts);
+        guNames.addAll(changedKeys(previous.guChecksums, next.guChecksums));
+        if (!dongIds.isEmpty() || !guNames.isEmpty()) {
+            eventPublisher.publishEvent(new PropertyCountsChangedEvent(this, false, dongIds, guNames));
+        }
+    }
+
+    private static <K, V> Set<K> changedKeys(Map<K, V> previous, Map<K, V> next) {
+        Set<K> changed = new HashSet<>();
+        next.forEach((key, value) -> {
+            if (!Objects.deepEquals(value, previous.get(key))) {
+                changed.add(key);
+            }
+        });
+        for (K key : previous.keySet()) {
+            if (!next.containsKey(key)) {
+                changed.add(key);
+            }
+        }
+        return changed;
+    }
+
+    public List<DongPropertyCountDto> countByDong(PropertyCategory category) {
+        return current().dongLists.get(category);
+    }
+
+    public List<GuPropertyCountDto> countByGu(PropertyCategory category) {
+        return current().guLists.get(category);
+    }
+
+    /**
+     * 현재 스냅샷의 개수 내용 해시 (개수가 같으면 노드가 달라도 같은 값)
+     * 요청 메트릭에는 포함하지 않습니다.
+     */
+    public String getContentVersion() {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            ensureLoaded();
+            current = this.snapshot;
+        }
+        return current.contentVersion;
+    }
+
+    // 아직 적재되지 않았으면 호출한 스레드에서 한 번 집계합니다. (동시에 들어온 요청은 한 번의 집계를 기다림)
+    private Snapshot current() {
+        Snapshot current = this.snapshot;
+        if (current != null) {
+            hitCounter.increment();
+            return current;
+        }
+        missCounter.increment();
+        ensureLoaded();
+        return this.snapshot;
+    }
+
+    /**
+     * 불변 집계 스냅샷
+     * dongCounts / guCounts 의 배열은 category_flags 값(0~7) 별 매물 개수입니다.
+     * dongChecksums / guChecksums 는 해당 동/구 매물의 내용 체크섬입니다.
+     * contentVersion 은 개수(조회 결과 목록이 만들어지는 값)의 SHA-256 앞 16바이트입니다.
+     */
+    private static final class Snapshot {
+        final Map<Integer, long[]> dongCounts;
+        final Map<String, long[]> guCounts;
+        final Map<Integer, Long> dongChecksums;
+        final Map<String, Long> guChecksums;
+        final int maxPropertyId;
+        final String contentVersion;
+        final Map<PropertyCategory, List<DongPropertyCountDto>> dongLists = new EnumMap<>(PropertyCategory.class);
+        final Map<PropertyCategory, List<GuPropertyCountDto>> guLists = new EnumMap<>(PropertyCategory.class);
+
+        private Snapshot(Map<Integer, long[]> dongCounts, Map<String, long[]> guCounts,
+                         Map<Integer, Long> dongChecksums, Map<String, Long> guChecksums, int maxPropertyId) {
+            this.dongCounts = dongCounts;
+            this.guCounts = guCounts;
+            this.dongChecksums = dongChecksums;
+            this.guChecksums = guChecksums;
+            this.maxPropertyId = maxPropertyId;
+            this.contentVersion = contentVersionOf(dongCounts, guCounts);
+            for (PropertyCategory category : PropertyCategory.values()) {
+                List<DongPropertyCountDto> dongList = new ArrayList<>();
+                dongCounts.forEach((dongId, counts) -> {
+                    long count = sum(counts, category);
+                    if (count > 0) {
+                        dongList.add(new DongPropertyCountDtoImpl(dongId, count));
+                    }
+                });
+                dongLists.put(category, Collections.unmodifiableList(dongList));
+
+                List<GuPropertyCountDto> guList = new ArrayList<>();
+                guCounts.forEach((guName, counts) -> {
+                    long count = sum(counts, category);
+                    if (count > 0) {
+                        guList.add(new GuPropertyCountDtoImpl(guName, count));
+                    }
+                });
+                guLists.put(category, Collections.unmodifiableList(guList));
+            }
+        }
+
+        /**
+         * 기존 스냅샷(base)에 집계 행(rows)을 더해 새 스냅샷을 만듭니다.
+         */
+        static Snapshot build(List<PropertyCountRollupDto> rows, Snapshot base) {
+            // 응답 순서를 일정하게 유지하기 위해 정렬된 맵 사용 (null 동/구 항목은 맨 앞)
+            Map<Integer, long[]> dongCounts = new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+            Map<String, long[]> guCounts = new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+            Map<Integer, Long> dongChecksums = new HashMap<>();
+            Map<String, Long> guChecksums = new HashMap<>();
+            int maxId = 0;
+            if (base != null) {
+                base.dongCounts.forEach((k, v) -> dongCounts.put(k, v.clone()));
+                base.guCounts.forEach((k, v) -> guCounts.put(k, v.clone()));
+                dongChecksums.putAll(base.dongChecksums);
+                guChecksums.putAll(base.guChecksums);
+                maxId = base.maxPropertyId;
+            }
+            for (PropertyCountRollupDto row : rows) {
+                int flags = row.getCategoryFlags() != null ? row.getCategoryFlags() & (FLAG_VALUES - 1) : 0;
+                long count = row.getPropertyCount() != null ? row.getPropertyCount() : 0L;
+                long checksum = row.getChecksum() != null ? row.getChecksum() : 0L;
+                dongCounts.computeIfAbsent(row.getDongId(), k -> new long[FLAG_VALUES])[flags] += count;
+                dongChecksums.merge(row.getDongId(), checksum, (a, b) -> a ^ b);
+                guCounts.computeIfAbsent(row.getGuName(), k -> new long[FLAG_VALUES])[flags] += count;
+                guChecksums.merge(row.getGuName(), checksum, (a, b) -> a ^ b);
+                if (row.getMaxPropertyId() != null) {
+                    maxId = Math.max(maxId, row.getMaxPropertyId());
+                }
+            }
+            return new Snapshot(dongCounts, guCounts, dongChecksums, guChecksums, maxId);
+        }
+
+        private static String contentVersionOf(Map<Integer, long[]> dongCounts, Map<String, long[]> guCounts) {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(1 + Integer.BYTES + FLAG_VALUES * Long.BYTES);
+            dongCounts.forEach((dongId, counts) -> {
+                buffer.clear().put((byte) (dongId != null ? 1 : 0)).putInt(dongId != null ? dongId : 0);
+                for (long count : counts) {
+                    buffer.putLong(count);
+                }
+                digest.update(buffer.array(), 0, buffer.position());
+            });
+            guCounts.forEach((guName, counts) -> {
+                byte[] name = guName != null ? guName.getBytes(StandardCharsets.UTF_8) : new byte[0];
+                buffer.clear().putInt(guName != null ? name.length : -1);
+                digest.update(buffer.array(), 0, buffer.position());
+                digest.update(name);
+                buffer.clear();
+                for (long count : counts) {
+                    buffer.putLong(count);
+                }
+                digest.update(buffer.array(), 0, buffer.position());
+            });
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        }
+
+        private static long sum(long[] counts, PropertyCategory category) {
+            long total = 0;
+            for (int flags = 0; flags < FLAG_VALUES; flags++) {
+                if (category.matches(flags)) {
+                    total += counts[flags];
+                }
+            }
+            return total;
+        }
+    }
+}
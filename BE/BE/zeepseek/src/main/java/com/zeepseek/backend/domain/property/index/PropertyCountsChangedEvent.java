@@ -0,0 +1,24 @@
+package com.zeepseek.backend.domain.property.index;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Set;
+
+/**
+ * 매물 개수 큐브가 갱신되면서 개수 또는 내용 체크섬이 바뀐 동/구 목록
+ * all 이 true 이면 비교할 이전 집계가 없는 경우(기동 후 첫 집계)로, 모든 동/구가 바뀐 것으로 취급합니다.
+ */
+@Getter
+public class PropertyCountsChangedEvent extends ApplicationEvent {
+    private final boolean all;
+    private final Set<Integer> dongIds;
+    private final Set<String> guNames;
+
+    public PropertyCountsChangedEvent(Object source, boolean all, Set<Integer> dongIds, Set<String> guNames) {
+        super(source);
+        this.all = all;
+        this.dongIds = dongIds;
+        this.guNames = guNames;
+    }
+}
@@ -0,0 +1,25 @@
+package com.zeepseek.backend.domain.property.index;
+
+import com.zeepseek.backend.domain.property.dto.response.PropertyPointDto;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * 공간 인덱스가 갱신되었을 때 발행되는 이벤트
+ * fullReload 가 true 이면 전체 재적재(삭제/수정 포함 가능), false 이면 addedPoints 만 추가된 증분 적재입니다.
+ */
+@Getter
+public class PropertyIndexUpdatedEvent extends ApplicationEvent {
+    private final long version;
+    private final boolean fullReload;
+    private final List<PropertyPointDto> addedPoints;
+
+    public PropertyIndexUpdatedEvent(Object source, long version, boolean fullReload, List<PropertyPointDto> addedPoints) {
+        super(source);
+        this.version = version;
+        this.fullReload = fullReload;
+        this.addedPoints = addedPoints;
+    }
+}
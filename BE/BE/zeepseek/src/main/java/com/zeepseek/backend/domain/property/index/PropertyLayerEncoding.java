@@ -0,0 +1,78 @@
+package com.zeepseek.backend.domain.property.index;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * 지도 초기 레이어(propertyId, 위도, 경도)의 컬럼형 바이너리 인코딩
+ *
+ * <pre>
+ * magic    4 bytes  "ZPL" + 버전(1)
+ * scale    int32    좌표 고정소수점 배율 (1e6)
+ * count    varint   매물 수
+ * ids      varint * count   propertyId 오름차순, 첫 값은 그대로 이후는 직전 값과의 차이
+ * lats     int32  * count   round(위도 * scale)
+ * lngs     int32  * count   round(경도 * scale)
+ * </pre>
+ * 정수는 모두 big-endian, varint 는 LEB128(7bit) 입니다.
+ */
+public final class PropertyLayerEncoding {
+
+    public static final String CONTENT_TYPE = "application/vnd.zeepseek.property-layer";
+    public static final int SCALE = 1_000_000;
+
+    private static final byte[] MAGIC = {'Z', 'P', 'L', 1};
+
+    private PropertyLayerEncoding() {
+    }
+
+    /**
+     * ids/lats/lngs 는 같은 인덱스끼리 한 매물이며 정렬 순서는 상관없습니다. (입력 배열은 변경하지 않음)
+     */
+    public static byte[] encode(int[] ids, double[] lats, double[] lngs) {
+        int n = ids.length;
+        // propertyId 오름차순 정렬을 위해 (id << 32 | 원래 위치) 를 정렬
+        long[] order = new long[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = ((long) ids[i] << 32) | i;
+        }
+        Arrays.sort(order);
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(16 + n * 10);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.write(MAGIC);
+            out.writeInt(SCALE);
+            writeVarint(out, n);
+            int prev = 0;
+            for (long key : order) {
+                int id = (int) (key >>> 32);
+                writeVarint(out, id - prev);
+                prev = id;
+            }
+            for (long key : order) {
+                out.writeInt(toFixed(lats[(int) key]));
+            }
+            for (long key : order) {
+                out.writeInt(toFixed(lngs[(int) key]));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static int toFixed(double degree) {
+        return (int) Math.round(degree * SCALE);
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+}
@@ -0,0 +1,617 @@
+package com.zeepseek.backend.domain.property.index;
+
+import com.zeepseek.backend.domain.distance.service.DistanceService;
+import com.zeepseek.backend.domain.property.dto.request.CellBoundsDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyClusterDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyPointDto;
+import com.zeepseek.backend.domain.property.model.PropertyCategory;
+import com.zeepseek.backend.domain.property.repository.PropertyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 매물 좌표를 메모리에 상주시키는 균등 격자(uniform grid) 공간 인덱스
+ *
+ * - 애플리케이션 기동 시 PropertyRepository 로부터 전체 좌표를 적재합니다.
+ * - 주기적으로 마지막으로 적재한 propertyId 이후의 매물만 추가 적재합니다. (incremental refresh)
+ * - 삭제/수정 반영을 위해 긴 주기로 전체 재적재를 수행합니다.
+ *
+ * 서비스 지역(property.spatial-index.area.*) 밖의 좌표는 잘못 입력된 값으로 보고 적재하지 않으며,
+ * 버킷 수가 property.spatial-index.max-buckets 를 넘으면 셀 크기를 키워 격자 배열 크기를 제한합니다.
+ *
+ * 격자는 버킷 단위로 정렬된 primitive 배열(CSR 형태)로 보관되며,
+ * 갱신 시 새 스냅샷을 만든 뒤 참조만 교체하므로 조회는 락 없이 수행됩니다.
+ * 스냅샷을 만들 때 줌 레벨별 클러스터 집계(PropertyClusterPyramid)도 함께 계산합니다. (증분 적재 시에는 추가된 칸만 갱신)
+ * 갱신이 끝나면 PropertyIndexUpdatedEvent 를 발행합니다.
+ */
+@Slf4j
+@Component
+public class PropertySpatialIndex {
+
+    private final PropertyRepository propertyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final double cellSizeDeg;
+    private final CellBoundsDto serviceArea;
+    private final long maxBuckets;
+    private final int clusterMinZoom;
+    private final int clusterMaxZoom;
+
+    private volatile Snapshot snapshot;
+
+    public PropertySpatialIndex(PropertyRepository propertyRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${property.spatial-index.cell-size-deg:0.005}") double cellSizeDeg,
+                                @Value("${property.spatial-index.area.min-lat:33.0}") double areaMinLat,
+                                @Value("${property.spatial-index.area.max-lat:38.7}") double areaMaxLat,
+                                @Value("${property.spatial-index.area.min-lng:124.5}") double areaMinLng,
+                                @Value("${property.spatial-index.area.max-lng:132.0}") double areaMaxLng,
+                                @Value("${property.spatial-index.max-buckets:4000000}") long maxBuckets,
+                                @Value("${property.cluster.min-zoom:8}") int clusterMinZoom,
+                                @Value("${property.cluster.max-zoom:16}") int clusterMaxZoom) {
+        this.propertyRepository = propertyRepository;
+        this.eventPublisher = eventPublisher;
+        this.cellSizeDeg = cellSizeDeg;
+        this.serviceArea = new CellBoundsDto(areaMinLat, areaMaxLat, areaMinLng, areaMaxLng);
+        this.maxBuckets = Math.max(1, maxBuckets);
+        this.clusterMinZoom = clusterMinZoom;
+        this.clusterMaxZoom = clusterMaxZoom;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * 전체 재적재 (삭제/좌표 변경 반영용)
+     */
+    @Scheduled(initialDelayString = "${property.spatial-index.full-reload-ms:21600000}",
+            fixedDelayString = "${property.spatial-index.full-reload-ms:21600000}")
+    public synchronized void reload() {
+        try {
+            long start = System.currentTimeMillis();
+            List<PropertyPointDto> points = propertyRepository.findPointsAfter(0);
+            Snapshot next = build(points, null);
+            this.snapshot = next;
+            log.info("공간 인덱스 전체 적재 완료: {}건, {}ms", next.size(), System.currentTimeMillis() - start);
+            eventPublisher.publishEvent(new PropertyIndexUpdatedEvent(this, next.version, true, List.of()));
+        } catch (Exception e) {
+            log.error("공간 인덱스 전체 적재 실패", e);
+        }
+    }
+
+    /**
+     * 마지막으로 적재한 propertyId 이후에 추가된 매물만 반영
+     */
+    @Scheduled(initialDelayString = "${property.spatial-index.refresh-ms:60000}",
+            fixedDelayString = "${property.spatial-index.refresh-ms:60000}")
+    public synchronized void refresh() {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            reload();
+            return;
+        }
+        try {
+            List<PropertyPointDto> added = propertyRepository.findPointsAfter(current.maxPropertyId);
+            if (added.isEmpty()) {
+                return;
+            }
+            Snapshot next = build(added, current);
+            this.snapshot = next;
+            log.info("공간 인덱스 증분 적재: {}건 추가", added.size());
+            eventPublisher.publishEvent(new PropertyIndexUpdatedEvent(this, next.version, false, added));
+        } catch (Exception e) {
+            log.error("공간 인덱스 증분 적재 실패", e);
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 인덱스 데이터 버전 (재적재/증분 적재마다 증가)
+     */
+    public long getVersion() {
+        Snapshot current = this.snapshot;
+        return current != null ? current.version : 0L;
+    }
+
+    public int size() {
+        Snapshot current = this.snapshot;
+        return current != null ? current.size() : 0;
+    }
+
+    /**
+     * 사각형 범위 안에 있는 매물 id 목록을 반환합니다. (min 포함, max 제외)
+     */
+    public int[] query(double minLat, double maxLat, double minLng, double maxLng, PropertyCategory category) {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            return new int[0];
+        }
+        return current.query(minLat, maxLat, minLng, maxLng, category);
+    }
+
+    /**
+     * (lat, lng) 에서 가까운 매물 k 개를 하버사인 거리 순으로 반환합니다. (인덱스 미적재 시 null)
+     *
+     * @param minRent       월세 하한 (null 이면 제한 없음)
+     * @param maxRent       월세 상한 (null 이면 제한 없음)
+     * @param maxDistanceKm 검색 반경 (null 이면 제한 없음)
+     */
+    public NearestProperties nearest(double lat, double lng, int k, PropertyCategory category,
+                                     Integer minRent, Integer maxRent, Double maxDistanceKm) {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            return null;
+        }
+        return current.nearest(lat, lng, k, category,
+                minRent != null ? minRent : Integer.MIN_VALUE,
+                maxRent != null ? maxRent : Integer.MAX_VALUE,
+                minRent != null || maxRent != null,
+                maxDistanceKm != null ? maxDistanceKm : Double.MAX_VALUE);
+    }
+
+    /**
+     * (lat, lng) 까지의 도보 시간(DistanceService.calculateWalkingTime)이 maxSeconds 이하인 매물을
+     * 도보 시간 순으로 반환합니다. (인덱스 미적재 시 null)
+     */
+    public CommuteProperties withinWalkingTime(double lat, double lng, int maxSeconds, PropertyCategory category) {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            return null;
+        }
+        return current.withinWalkingTime(lat, lng, maxSeconds, category);
+    }
+
+    /**
+     * 이전 뷰포트 대비 현재 뷰포트에서 추가/제거된 매물 id 를 같은 스냅샷에서 계산합니다.
+     * 이전 뷰포트가 없거나 knownVersion 이 현재 버전과 다르면 현재 뷰포트 전체를 반환합니다. (full)
+     * 인덱스 미적재 시 null
+     */
+    public ViewportDelta delta(CellBoundsDto previousViewport, CellBoundsDto viewport, Long knownVersion,
+                               PropertyCategory category) {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            return null;
+        }
+        int[] currentIds = current.query(viewport.getMinLat(), viewport.getMaxLat(),
+                viewport.getMinLng(), viewport.getMaxLng(), category);
+        if (previousViewport == null || knownVersion == null || knownVersion != current.version) {
+            return ViewportDelta.full(current.version, currentIds);
+        }
+        int[] previousIds = current.query(previousViewport.getMinLat(), previousViewport.getMaxLat(),
+                previousViewport.getMinLng(), previousViewport.getMaxLng(), category);
+        return ViewportDelta.between(current.version, previousIds, currentIds);
+    }
+
+    /**
+     * 뷰포트 안의 클러스터 집계를 반환합니다. (줌 레벨은 피라미드 범위로 보정)
+     */
+    public List<PropertyClusterDto> clusters(double minLat, double maxLat, double minLng, double maxLng,
+                                             int zoom, PropertyCategory category) {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            return List.of();
+        }
+        return current.pyramid.query(minLat, maxLat, minLng, maxLng, zoom, category);
+    }
+
+    /**
+     * 뷰포트가 걸치는 클러스터 칸 수 (줌 레벨은 피라미드 범위로 보정, 요청 크기 제한용)
+     */
+    public long clusterCellCount(double minLat, double maxLat, double minLng, double maxLng, int zoom) {
+        int clamped = Math.max(clusterMinZoom, Math.min(clusterMaxZoom, zoom));
+        return PropertyClusterPyramid.cellCount(minLat, maxLat, minLng, maxLng, clamped);
+    }
+
+    /**
+     * 현재 스냅샷의 전체 좌표를 지도 레이어 바이너리로 인코딩합니다. (인덱스 미적재 시 null)
+     */
+    public byte[] encodeLayer() {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            return null;
+        }
+        return PropertyLayerEncoding.encode(current.ids, current.lats, current.lngs);
+    }
+
+    private Snapshot build(List<PropertyPointDto> points, Snapshot base) {
+        return Snapshot.build(points, base, cellSizeDeg, serviceArea, maxBuckets,
+                clusterMinZoom, clusterMaxZoom, nextVersion());
+    }
+
+    private long nextVersion() {
+        Snapshot current = this.snapshot;
+        return current != null ? current.version + 1 : 1L;
+    }
+
+    /**
+     * 불변 격자 스냅샷
+     * bucketStart[b] ~ bucketStart[b + 1] 구간이 b 번째 버킷에 속한 매물입니다.
+     */
+    static final class Snapshot {
+        private static final double EARTH_RADIUS_KM = 6371;
+
+        final long version;
+        final double minLat;
+        final double minLng;
+        final double cellSize;
+        final int rows;
+        final int cols;
+        final int[] bucketStart;
+        final int[] ids;
+        final double[] lats;
+        final double[] lngs;
+        final byte[] flags;
+        final int[] rents;
+        final int maxPropertyId;
+        final PropertyClusterPyramid pyramid;
+
+        private Snapshot(long version, double minLat, double minLng, double cellSize, int rows, int cols,
+                         int[] bucketStart, int[] ids, double[] lats, double[] lngs, byte[] flags, int[] rents,
+                         int maxPropertyId, PropertyClusterPyramid pyramid) {
+            this.version = version;
+            this.minLat = minLat;
+            this.minLng = minLng;
+            this.cellSize = cellSize;
+            this.rows = rows;
+            this.cols = cols;
+            this.bucketStart = bucketStart;
+            this.ids = ids;
+            this.lats = lats;
+            this.lngs = lngs;
+            this.flags = flags;
+            this.rents = rents;
+            this.maxPropertyId = maxPropertyId;
+            this.pyramid = pyramid;
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        /**
+         * 기존 스냅샷(base)에 신규 좌표(points)를 합쳐 새 스냅샷을 만듭니다.
+         * area 밖의 좌표는 제외하지만 maxPropertyId 에는 반영하므로 증분 적재에서 다시 조회되지 않습니다.
+         */
+        static Snapshot build(List<PropertyPointDto> points, Snapshot base, double cellSize, CellBoundsDto area,
+                              long maxBuckets, int minZoom, int maxZoom, long version) {
+            int maxId = base != null ? base.maxPropertyId : 0;
+            List<PropertyPointDto> inside = new ArrayList<>(points.size());
+            for (PropertyPointDto p : points) {
+                maxId = Math.max(maxId, p.getPropertyId());
+                if (contains(area, p.getLatitude(), p.getLongitude())) {
+                    inside.add(p);
+                }
+            }
+            if (inside.size() < points.size()) {
+                log.warn("서비스 지역 밖 좌표 {}건은 공간 인덱스에서 제외했습니다.", points.size() - inside.size());
+            }
+
+            int baseSize = base != null ? base.size() : 0;
+            int n = baseSize + inside.size();
+            int[] ids = new int[n];
+            double[] lats = new double[n];
+            double[] lngs = new double[n];
+            byte[] flags = new byte[n];
+            int[] rents = new int[n];
+            if (base != null) {
+                System.arraycopy(base.ids, 0, ids, 0, baseSize);
+                System.arraycopy(base.lats, 0, lats, 0, baseSize);
+                System.arraycopy(base.lngs, 0, lngs, 0, baseSize);
+                System.arraycopy(base.flags, 0, flags, 0, baseSize);
+                System.arraycopy(base.rents, 0, rents, 0, baseSize);
+            }
+            int i = baseSize;
+            for (PropertyPointDto p : inside) {
+                ids[i] = p.getPropertyId();
+                lats[i] = p.getLatitude();
+                lngs[i] = p.getLongitude();
+                flags[i] = p.getCategoryFlags() != null ? p.getCategoryFlags().byteValue() : 0;
+                rents[i] = p.getMonthlyRent() != null ? p.getMonthlyRent() : -1;
+                i++;
+            }
+            // 증분 적재는 기존 피라미드에 새 매물의 칸만 더합니다.
+            PropertyClusterPyramid pyramid = base != null
+                    ? base.pyramid.withPoints(lats, lngs, flags, rents, baseSize, n)
+                    : PropertyClusterPyramid.build(lats, lngs, flags, rents, minZoom, maxZoom);
+            return bucketize(version, ids, lats, lngs, flags, rents, cellSize, maxBuckets, maxId, pyramid);
+        }
+
+        private static long bucketCount(double span, double cellSize) {
+            return (long) (span / cellSize) + 1;
+        }
+
+        private static boolean contains(CellBoundsDto area, Double lat, Double lng) {
+            return lat != null && lng != null
+                    && lat >= area.getMinLat() && lat <= area.getMaxLat()
+                    && lng >= area.getMinLng() && lng <= area.getMaxLng();
+        }
+
+        private static Snapshot bucketize(long version, int[] ids, double[] lats, double[] lngs, byte[] flags,
+                                          int[] rents, double cellSize, long maxBuckets, int maxId,
+                                          PropertyClusterPyramid pyramid) {
+            int n = ids.length;
+            double minLat = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+            double minLng = Double.MAX_VALUE, maxLng = -Double.MAX_VALUE;
+            for (int i = 0; i < n; i++) {
+                minLat = Math.min(minLat, lats[i]);
+                maxLat = Math.max(maxLat, lats[i]);
+                minLng = Math.min(minLng, lngs[i]);
+                maxLng = Math.max(maxLng, lngs[i]);
+            }
+            if (n == 0) {
+                minLat = maxLat = minLng = maxLng = 0;
+            }
+            // 버킷 수가 상한을 넘으면 셀 크기를 두 배씩 키움 (조회 결과는 같고 버킷당 후보만 늘어남)
+            double configuredCellSize = cellSize;
+            while (bucketCount(maxLat - minLat, cellSize) * bucketCount(maxLng - minLng, cellSize) > maxBuckets) {
+                cellSize *= 2;
+            }
+            if (cellSize != configuredCellSize) {
+                log.warn("공간 인덱스 버킷 수가 상한({})을 넘어 셀 크기를 {} -> {} 도로 키웠습니다.",
+                        maxBuckets, configuredCellSize, cellSize);
+            }
+            int rows = (int) ((maxLat - minLat) / cellSize) + 1;
+            int cols = (int) ((maxLng - minLng) / cellSize) + 1;
+
+            // 버킷별 개수 -> 누적합 -> 버킷 순서로 재배치
+            int[] bucketOf = new int[n];
+            int[] bucketStart = new int[rows * cols + 1];
+            for (int i = 0; i < n; i++) {
+                int row = (int) ((lats[i] - minLat) / cellSize);
+                int col = (int) ((lngs[i] - minLng) / cellSize);
+                bucketOf[i] = row * cols + col;
+                bucketStart[bucketOf[i] + 1]++;
+            }
+            for (int b = 0; b < rows * cols; b++) {
+                bucketStart[b + 1] += bucketStart[b];
+            }
+            int[] cursor = Arrays.copyOf(bucketStart, rows * cols);
+            int[] sortedIds = new int[n];
+            double[] sortedLats = new double[n];
+            double[] sortedLngs = new double[n];
+            byte[] sortedFlags = new byte[n];
+            int[] sortedRents = new int[n];
+            for (int i = 0; i < n; i++) {
+                int pos = cursor[bucketOf[i]]++;
+                sortedIds[pos] = ids[i];
+                sortedLats[pos] = lats[i];
+                sortedLngs[pos] = lngs[i];
+                sortedFlags[pos] = flags[i];
+                sortedRents[pos] = rents[i];
+            }
+            return new Snapshot(version, minLat, minLng, cellSize, rows, cols,
+                    bucketStart, sortedIds, sortedLats, sortedLngs, sortedFlags, sortedRents, maxId, pyramid);
+        }
+
+        int rowOf(double lat) {
+            return clamp((int) Math.floor((lat - minLat) / cellSize), rows);
+        }
+
+        int colOf(double lng) {
+            return clamp((int) Math.floor((lng - minLng) / cellSize), cols);
+        }
+
+        private static int clamp(int v, int size) {
+            return Math.max(0, Math.min(size - 1, v));
+        }
+
+        int[] query(double qMinLat, double qMaxLat, double qMinLng, double qMaxLng, PropertyCategory category) {
+            int[] out = positionsIn(qMinLat, qMaxLat, qMinLng, qMaxLng, category);
+            for (int i = 0; i < out.length; i++) {
+                out[i] = ids[out[i]];
+            }
+            return out;
+        }
+
+        /**
+         * 사각형 범위 안에 있는 매물의 스냅샷 배열 위치 (ids / lats / lngs 의 인덱스)
+         */
+        int[] positionsIn(double qMinLat, double qMaxLat, double qMinLng, double qMaxLng, PropertyCategory category) {
+            if (ids.length == 0 || qMinLat >= qMaxLat || qMinLng >= qMaxLng) {
+                return new int[0];
+            }
+            int rowFrom = rowOf(qMinLat), rowTo = rowOf(qMaxLat);
+            int colFrom = colOf(qMinLng), colTo = colOf(qMaxLng);
+
+            int[] out = new int[16];
+            int count = 0;
+            for (int row = rowFrom; row <= rowTo; row++) {
+                int rowBase = row * cols;
+                for (int i = bucketStart[rowBase + colFrom]; i < bucketStart[rowBase + colTo + 1]; i++) {
+                    double lat = lats[i];
+                    double lng = lngs[i];
+                    if (lat >= qMinLat && lat < qMaxLat && lng >= qMinLng && lng < qMaxLng
+                            && category.matches(flags[i])) {
+                        if (count == out.length) {
+                            out = Arrays.copyOf(out, count * 2);
+                        }
+                        out[count++] = i;
+                    }
+                }
+            }
+            return Arrays.copyOf(out, count);
+        }
+
+        /**
+         * 도보 반경의 사각형으로 후보를 추린 뒤, 후보 좌표를 primitive 배열로 모아 한 번에 하버사인 거리를 계산합니다.
+         * 정렬은 (도보 시간 << 32 | id) 를 long 배열로 정렬해 박싱 없이 수행합니다.
+         */
+        CommuteProperties withinWalkingTime(double lat, double lng, int maxSeconds, PropertyCategory category) {
+            // 도보 시간은 초 단위로 반올림되므로 1초만큼 여유를 둔 반경으로 후보를 추림
+            double radiusKm = (maxSeconds + 1) / 3600.0 * DistanceService.WALKING_SPEED_KMH;
+            double latDeg = Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+            double lngDeg = latDeg / Math.max(0.01, Math.cos(Math.toRadians(Math.min(89, Math.abs(lat) + latDeg))));
+            int[] candidates = positionsIn(lat - latDeg, lat + latDeg, lng - lngDeg, lng + lngDeg, category);
+
+            int n = candidates.length;
+            double[] candidateLats = new double[n];
+            double[] candidateLngs = new double[n];
+            for (int i = 0; i < n; i++) {
+                candidateLats[i] = lats[candidates[i]];
+                candidateLngs[i] = lngs[candidates[i]];
+            }
+            double[] distances = new double[n];
+            DistanceService.haversine(lat, lng, candidateLats, candidateLngs, n, distances);
+
+            long[] keys = new long[n];
+            int count = 0;
+            for (int i = 0; i < n; i++) {
+                int seconds = DistanceService.calculateWalkingTime(distances[i]);
+                if (seconds <= maxSeconds) {
+                    keys[count++] = ((long) seconds << 32) | (ids[candidates[i]] & 0xFFFFFFFFL);
+                }
+            }
+            Arrays.sort(keys, 0, count);
+
+            int[] resultIds = new int[count];
+            int[] resultSeconds = new int[count];
+            for (int i = 0; i < count; i++) {
+                resultIds[i] = (int) keys[i];
+                resultSeconds[i] = (int) (keys[i] >>> 32);
+            }
+            return new CommuteProperties(version, resultIds, resultSeconds);
+        }
+
+        /**
+         * 질의점이 속한 버킷에서 시작해 한 칸씩 고리(ring)를 넓혀가며 후보를 하버사인 거리로 평가합니다.
+         * k 번째 거리보다 다음 고리까지의 최소 거리가 멀어지면 탐색을 멈춥니다.
+         * 후보는 크기 k 의 최대 힙(가장 먼 후보가 맨 위)에 보관합니다.
+         */
+        NearestProperties nearest(double lat, double lng, int k, PropertyCategory category,
+                                  int minRent, int maxRent, boolean rentFiltered, double maxDistanceKm) {
+            if (ids.length == 0 || k <= 0) {
+                return new NearestProperties(version, new int[0], new double[0]);
+            }
+            int[] heapPos = new int[k];
+            double[] heapDist = new double[k];
+            int heapSize = 0;
+
+            // 질의점이 격자 밖이면 가장 가까운 버킷에서 시작합니다.
+            // 보정된 중심에서 r 번째 고리인 버킷은 실제 질의점에서 r 칸 이상 떨어져 있으므로 고리 거리 하한은 그대로 성립합니다.
+            int centerRow = rowOf(lat);
+            int centerCol = colOf(lng);
+            int maxRing = Math.min(Math.max(rows, cols),
+                    Math.max(Math.max(centerRow, rows - 1 - centerRow), Math.max(centerCol, cols - 1 - centerCol)));
+
+            for (int ring = 0; ring <= maxRing; ring++) {
+                double lowerBoundKm = ringLowerBoundKm(lat, ring);
+                if (lowerBoundKm > maxDistanceKm || (heapSize == k && lowerBoundKm > heapDist[0])) {
+                    break;
+                }
+                int rowFrom = Math.max(0, centerRow - ring);
+                int rowTo = Math.min(rows - 1, centerRow + ring);
+                for (int row = rowFrom; row <= rowTo; row++) {
+                    boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+                    // 윗변/아랫변은 연속된 버킷 구간, 나머지 행은 좌우 끝 버킷만 해당 고리에 속함
+                    int step = edgeRow ? 1 : 2 * ring;
+                    int colFrom = edgeRow ? Math.max(0, centerCol - ring) : centerCol - ring;
+                    int colTo = edgeRow ? Math.min(cols - 1, centerCol + ring) : centerCol + ring;
+                    for (int col = colFrom; col <= colTo; col += step) {
+                        if (col < 0 || col >= cols) {
+                            continue;
+                        }
+                        int bucket = row * cols + col;
+                        for (int i = bucketStart[bucket]; i < bucketStart[bucket + 1]; i++) {
+                            if (!category.matches(flags[i])
+                                    || (rentFiltered && (rents[i] < 0 || rents[i] < minRent || rents[i] > maxRent))) {
+                                continue;
+                            }
+                            double distance = DistanceService.haversine(lat, lng, lats[i], lngs[i]);
+                            if (distance > maxDistanceKm) {
+                                continue;
+                            }
+                            if (heapSize < k) {
+                                heapPos[heapSize] = i;
+                                heapDist[heapSize] = distance;
+                                siftUp(heapPos, heapDist, heapSize++);
+                            } else if (distance < heapDist[0]) {
+                                heapPos[0] = i;
+                                heapDist[0] = distance;
+                                siftDown(heapPos, heapDist, heapSize);
+                            }
+                        }
+                    }
+                }
+            }
+
+            // 최대 힙에서 하나씩 꺼내 뒤에서부터 채우면 가까운 순서가 됩니다.
+            int[] resultIds = new int[heapSize];
+            double[] resultDistances = new double[heapSize];
+            for (int n = heapSize; n > 0; n--) {
+                resultIds[n - 1] = ids[heapPos[0]];
+                resultDistances[n - 1] = heapDist[0];
+                heapPos[0] = heapPos[n - 1];
+                heapDist[0] = heapDist[n - 1];
+                siftDown(heapPos, heapDist, n - 1);
+            }
+            return new NearestProperties(version, resultIds, resultDistances);
+        }
+
+        /**
+         * ring 번째 고리의 버킷은 질의점에서 위도 또는 경도로 최소 (ring - 1) 칸 떨어져 있습니다.
+         * 위도 방향은 자오선 거리, 경도 방향은 해당 경선까지의 최단(대원) 거리로 하한을 계산합니다.
+         */
+        private double ringLowerBoundKm(double lat, int ring) {
+            if (ring <= 1) {
+                return 0;
+            }
+            double gap = Math.toRadians((ring - 1) * cellSize);
+            double latKm = EARTH_RADIUS_KM * gap;
+            double lngKm = EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.abs(Math.sin(gap)) * Math.cos(Math.toRadians(lat))));
+            return Math.min(latKm, lngKm);
+        }
+
+        private static void siftUp(int[] pos, double[] dist, int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (dist[parent] >= dist[i]) {
+                    return;
+                }
+                swap(pos, dist, parent, i);
+                i = parent;
+            }
+        }
+
+        private static void siftDown(int[] pos, double[] dist, int size) {
+            int i = 0;
+            while (true) {
+                int largest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && dist[left] > dist[largest]) {
+                    largest = left;
+                }
+                if (right < size && dist[right] > dist[largest]) {
+                    largest = right;
+                }
+                if (largest == i) {
+                    return;
+                }
+                swap(pos, dist, largest, i);
+                i = largest;
+            }
+        }
+
+        private static void swap(int[] pos, double[] dist, int a, int b) {
+            int p = pos[a];
+            pos[a] = pos[b];
+            pos[b] = p;
+            double d = dist[a];
+            dist[a] = dist[b];
+            dist[b] = d;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.zeepseek.backend.domain.property.index;
+
+import java.util.Arrays;
+
+/**
+ * 이전 뷰포트 -> 현재 뷰포트로 이동했을 때 추가/제거된 매물 id (같은 인덱스 스냅샷 기준)
+ *
+ * full 이면 클라이언트가 가진 목록을 버리고 addedIds 로 교체해야 합니다.
+ * (이전 뷰포트가 없거나, 클라이언트가 받은 인덱스 버전이 현재 버전과 다른 경우)
+ */
+public final class ViewportDelta {
+
+    private final long version;
+    private final boolean full;
+    private final int[] addedIds;
+    private final int[] removedIds;
+
+    private ViewportDelta(long version, boolean full, int[] addedIds, int[] removedIds) {
+        this.version = version;
+        this.full = full;
+        this.addedIds = addedIds;
+        this.removedIds = removedIds;
+    }
+
+    static ViewportDelta full(long version, int[] currentIds) {
+        return new ViewportDelta(version, true, currentIds, new int[0]);
+    }
+
+    /**
+     * 두 범위의 id 목록 차집합 (입력 배열은 정렬됩니다)
+     */
+    static ViewportDelta between(long version, int[] previousIds, int[] currentIds) {
+        Arrays.sort(previousIds);
+        Arrays.sort(currentIds);
+        return new ViewportDelta(version, false, difference(currentIds, previousIds), difference(previousIds, currentIds));
+    }
+
+    // 정렬된 a 에서 정렬된 b 에 없는 값
+    private static int[] difference(int[] a, int[] b) {
+        int[] out = new int[a.length];
+        int count = 0;
+        int j = 0;
+        for (int value : a) {
+            while (j < b.length && b[j] < value) {
+                j++;
+            }
+            if (j == b.length || b[j] != value) {
+                out[count++] = value;
+            }
+        }
+        return Arrays.copyOf(out, count);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public int[] getAddedIds() {
+        return addedIds;
+    }
+
+    public int[] getRemovedIds() {
+        return removedIds;
+    }
+}
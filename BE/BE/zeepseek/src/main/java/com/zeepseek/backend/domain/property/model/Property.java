@@ -8,7 +8,10 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @Entity
-@Table(name = "property")
+@Table(name = "property", indexes = {
+        @Index(name = "idx_property_category_dong", columnList = "category_flags, dong_id"),
+        @Index(name = "idx_property_category_gu", columnList = "category_flags, gu_name")
+})
 public class Property {
 
     @Id
@@ -78,6 +81,10 @@ public class Property {
     @Column(name = "gu_name", nullable = false, length = 10)
     private String guName;
 
+    // 매물 타입 비트 플래그 (PropertyCategory 참고), DB 생성 컬럼이므로 읽기 전용
+    @Column(name = "category_flags", columnDefinition = "TINYINT", insertable = false, updatable = false)
+    private Integer categoryFlags;
+
     @Column(name = "created_at", insertable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,75 @@
+package com.zeepseek.backend.domain.property.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 매물 타입 분류 ("all", "one-room", "house", "office")
+ * 원룸(방 개수 기준)과 주택/오피스텔(건물 유형 기준)은 서로 겹칠 수 있으므로 비트 플래그로 표현합니다.
+ * 플래그는 property.category_flags 생성 컬럼(resources/db/property_category_flags.sql)에서 적재 시 계산됩니다.
+ * - 원룸: room_bath_count 가 '1/' 또는 '2/' 로 시작
+ * - 주택: room_type 이 '빌라', '단독/다가구' 이거나 '주택' 포함
+ * - 오피스텔: room_type 이 '오피스텔'
+ */
+public enum PropertyCategory {
+    ALL("all", 0),
+    ONE_ROOM("one-room", 1),
+    HOUSE("house", 1 << 1),
+    OFFICE("office", 1 << 2);
+
+    private static final int ALL_FLAGS = 0b111;
+
+    private final String type;
+    private final int mask;
+
+    PropertyCategory(String type, int mask) {
+        this.type = type;
+        this.mask = mask;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * 해당 플래그를 가진 매물이 이 분류에 속하는지 여부
+     */
+    public boolean matches(int flags) {
+        return this == ALL || (flags & mask) != 0;
+    }
+
+    /**
+     * 요청 파라미터(type)를 분류로 변환합니다. 알 수 없는 값은 ALL 로 취급합니다.
+     */
+    public static PropertyCategory fromType(String type) {
+        if (type != null) {
+            for (PropertyCategory category : values()) {
+                if (category.type.equalsIgnoreCase(type)) {
+                    return category;
+                }
+            }
+        }
+        return ALL;
+    }
+
+    /**
+     * 이 분류에 속하는 category_flags 값 목록 (ALL 은 빈 목록)
+     * 인덱스 (category_flags, dong_id) 를 범위 조회로 타도록 비트 연산 대신 IN 목록으로 조건을 만듭니다.
+     */
+    public List<Integer> flagValues() {
+        List<Integer> values = new ArrayList<>();
+        if (this == ALL) {
+            return values;
+        }
+        for (int flags = 1; flags <= ALL_FLAGS; flags++) {
+            if ((flags & mask) != 0) {
+                values.add(flags);
+            }
+        }
+        return values;
+    }
+}
@@ -1,74 +1,74 @@
 package com.zeepseek.backend.domain.property.repository;
 
 import com.zeepseek.backend.domain.property.model.Property;
-import com.zeepseek.backend.domain.property.dto.response.DongPropertyCountDto;
-import com.zeepseek.backend.domain.property.dto.response.GuPropertyCountDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyCardDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyCountRollupDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyPointDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertySummaryDto;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface PropertyRepository extends JpaRepository<Property, Long> {
+public interface PropertyRepository extends JpaRepository<Property, Long>, PropertyRepositoryCustom {
 
-    @Query("SELECT p.dongId AS dongId, COUNT(p) AS propertyCount " +
-            "FROM Property p GROUP BY p.dongId")
-    List<DongPropertyCountDto> countPropertiesByDong();
+    // 타입 조건: category_flags 비트(원룸 1, 주택 2, 오피스텔 4)를 포함하는 값 목록 (PropertyCategory.flagValues 와 일치)
+    // (category_flags, dong_id) / (category_flags, gu_name) 인덱스를 범위 조회로 사용합니다.
+    String ONE_ROOM = "p.categoryFlags IN (1, 3, 5, 7)";
+    String HOUSE = "p.categoryFlags IN (2, 3, 6, 7)";
+    String OFFICE = "p.categoryFlags IN (4, 5, 6, 7)";
 
-    @Query("SELECT p.guName AS guName, COUNT(p) AS propertyCount " +
-            "FROM Property p GROUP BY p.guName")
-    List<GuPropertyCountDto> countPropertiesByGu();
+    // 목록 카드에 표시할 description 길이 (나머지는 DB 에서 잘라내고 전송하지 않음)
+    int CARD_DESCRIPTION_LENGTH = 100;
 
-    List<Property> findByDongId(Integer dongId);
+    // 목록 조회용 카드 프로젝션 (description 은 앞부분만)
+    String CARD_SELECT = "SELECT new com.zeepseek.backend.domain.property.dto.response.PropertyCardDto(" +
+            "p.propertyId, p.roomType, p.contractType, p.price, p.address, " +
+            "SUBSTRING(p.description, 1, " + CARD_DESCRIPTION_LENGTH + "), p.deposit, p.monthlyRent, " +
+            "p.latitude, p.longitude, p.imageUrl, p.dongId) FROM Property p ";
 
-    List<Property> findByGuName(String guName);
+    @Query(CARD_SELECT + "WHERE p.dongId = :dongId")
+    List<PropertyCardDto> findCardsByDongId(@Param("dongId") Integer dongId);
 
-    @Query("SELECT p FROM Property p WHERE (p.roomBathCount LIKE '1/%' OR p.roomBathCount LIKE '2/%') AND p.dongId = :dongId")
-    List<Property> findOneRoomByDongId(@Param("dongId") Integer dongId);
+    @Query(CARD_SELECT + "WHERE p.guName = :guName")
+    List<PropertyCardDto> findCardsByGuName(@Param("guName") String guName);
 
-    @Query("SELECT p FROM Property p WHERE (p.roomType = '%빌라%' OR p.roomType LIKE '%주택%' OR p.roomType = '단독/다가구') AND p.dongId = :dongId")
-    List<Property> findHouseByDongId(@Param("dongId") Integer dongId);
+    @Query(CARD_SELECT + "WHERE " + ONE_ROOM + " AND p.dongId = :dongId")
+    List<PropertyCardDto> findOneRoomCardsByDongId(@Param("dongId") Integer dongId);
 
-    @Query("SELECT p FROM Property p WHERE p.roomType = '%오피스텔%' AND p.dongId = :dongId")
-    List<Property> findOfficeByDongId(@Param("dongId") Integer dongId);
+    @Query(CARD_SELECT + "WHERE " + HOUSE + " AND p.dongId = :dongId")
+    List<PropertyCardDto> findHouseCardsByDongId(@Param("dongId") Integer dongId);
 
-    @Query("SELECT p FROM Property p WHERE (p.roomBathCount LIKE '1/%' OR p.roomBathCount LIKE '2/%') AND p.guName = :guName")
-    List<Property> findOneRoomByGuName(@Param("guName") String guName);
+    @Query(CARD_SELECT + "WHERE " + OFFICE + " AND p.dongId = :dongId")
+    List<PropertyCardDto> findOfficeCardsByDongId(@Param("dongId") Integer dongId);
 
-    @Query("SELECT p FROM Property p WHERE (p.roomType = '빌라' OR p.roomType LIKE '%주택') AND p.guName = :guName")
-    List<Property> findHouseByGuName(@Param("guName") String guName);
+    @Query(CARD_SELECT + "WHERE " + ONE_ROOM + " AND p.guName = :guName")
+    List<PropertyCardDto> findOneRoomCardsByGuName(@Param("guName") String guName);
 
-    @Query("SELECT p FROM Property p WHERE p.roomType = '오피스텔' AND p.guName = :guName")
-    List<Property> findOfficeByGuName(@Param("guName") String guName);
+    @Query(CARD_SELECT + "WHERE " + HOUSE + " AND p.guName = :guName")
+    List<PropertyCardDto> findHouseCardsByGuName(@Param("guName") String guName);
 
-    @Query("SELECT p FROM Property p WHERE p.roomBathCount LIKE '1/%' OR p.roomBathCount LIKE '2/%'")
-    List<Property> findOneRoomProperties();
+    @Query(CARD_SELECT + "WHERE " + OFFICE + " AND p.guName = :guName")
+    List<PropertyCardDto> findOfficeCardsByGuName(@Param("guName") String guName);
 
-    @Query("SELECT p FROM Property p WHERE p.roomType = '빌라' OR p.roomType LIKE '%주택' OR p.roomType = '단독/다가구' ")
-    List<Property> findHouseProperties();
+    @Query(CARD_SELECT + "WHERE " + ONE_ROOM)
+    List<PropertyCardDto> findOneRoomCards();
 
-    @Query("SELECT p FROM Property p WHERE p.roomType = '오피스텔'")
-    List<Property> findOfficeProperties();
+    @Query(CARD_SELECT + "WHERE " + HOUSE)
+    List<PropertyCardDto> findHouseCards();
 
-    // 동별 원룸 매물 개수
-    @Query("SELECT p.dongId AS dongId, COUNT(p) AS propertyCount " +
-            "FROM Property p WHERE p.roomBathCount LIKE '1/%' OR p.roomBathCount LIKE '2/%' " +
-            "GROUP BY p.dongId")
-    List<DongPropertyCountDto> countOneRoomPropertiesByDong();
+    @Query(CARD_SELECT + "WHERE " + OFFICE)
+    List<PropertyCardDto> findOfficeCards();
 
-    // 동별 빌라/주택 매물 개수
-    @Query("SELECT p.dongId AS dongId, COUNT(p) AS propertyCount " +
-            "FROM Property p WHERE p.roomType = '빌라' OR p.roomType LIKE '%주택%' OR p.roomType = '단독/다가구' " +
-            "GROUP BY p.dongId")
-    List<DongPropertyCountDto> countHousePropertiesByDong();
-
-    // 동별 오피스텔 매물 개수
-    @Query("SELECT p.dongId AS dongId, COUNT(p) AS propertyCount " +
-            "FROM Property p WHERE p.roomType = '오피스텔' " +
-            "GROUP BY p.dongId")
-    List<DongPropertyCountDto> countOfficePropertiesByDong();
+    @Query(CARD_SELECT + "WHERE p.propertyId IN :propertyIds")
+    List<PropertyCardDto> findCardsByPropertyIdIn(@Param("propertyIds") Collection<Integer> propertyIds);
 
     @Query(value = "SELECT * FROM property WHERE ST_Within(location, " +
             "ST_GeomFromText(CONCAT('POLYGON((', :minLat, ' ', :minLng, ', ', " +
@@ -84,7 +84,7 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
             "ST_GeomFromText(CONCAT('POLYGON((', :minLat, ' ', :minLng, ', ', " +
             "              :minLat, ' ', :maxLng, ', ', :maxLat, ' ', :maxLng, ', ', " +
             "              :maxLat, ' ', :minLng, ', ', :minLat, ' ', :minLng, '))'), 4326)) " +
-            "AND (room_bath_count LIKE '1/%' OR room_bath_count LIKE '2/%')",
+            "AND category_flags IN (1, 3, 5, 7)",
             nativeQuery = true)
     List<Property> findOneRoomPropertiesInCell(@Param("minLng") double minLng,
                                                @Param("minLat") double minLat,
@@ -96,7 +96,7 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
             "ST_GeomFromText(CONCAT('POLYGON((', :minLat, ' ', :minLng, ', ', " +
             "              :minLat, ' ', :maxLng, ', ', :maxLat, ' ', :maxLng, ', ', " +
             "              :maxLat, ' ', :minLng, ', ', :minLat, ' ', :minLng, '))'), 4326)) " +
-            "AND room_type = '오피스텔'",
+            "AND category_flags IN (4, 5, 6, 7)",
             nativeQuery = true)
     List<Property> findOfficePropertiesInCell(@Param("minLng") double minLng,
                                               @Param("minLat") double minLat,
@@ -107,28 +107,45 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
             "ST_GeomFromText(CONCAT('POLYGON((', :minLat, ' ', :minLng, ', ', " +
             "              :minLat, ' ', :maxLng, ', ', :maxLat, ' ', :maxLng, ', ', " +
             "              :maxLat, ' ', :minLng, ', ', :minLat, ' ', :minLng, '))'), 4326)) " +
-            "AND (room_type = '빌라' OR room_type LIKE '%주택%' OR room_type = '단독/다가구')",
+            "AND category_flags IN (2, 3, 6, 7)",
             nativeQuery = true)
     List<Property> findHousePropertiesInCell(@Param("minLng") double minLng,
                                              @Param("minLat") double minLat,
                                              @Param("maxLng") double maxLng,
                                              @Param("maxLat") double maxLat);
 
-    // 구별 원룸 매물 개수
-    @Query("SELECT p.guName AS guName, COUNT(p) AS propertyCount " +
-            "FROM Property p WHERE p.roomBathCount LIKE '1/%' OR p.roomBathCount LIKE '2/%' " +
-            "GROUP BY p.guName")
-    List<GuPropertyCountDto> countOneRoomPropertiesByGu();
-
-    // 구별 빌라/주택 매물 개수
-    @Query("SELECT p.guName AS guName, COUNT(p) AS propertyCount " +
-            "FROM Property p WHERE p.roomType = '빌라' OR p.roomType LIKE '%주택%' OR p.roomType = '단독/다가구' " +
-            "GROUP BY p.guName")
-    List<GuPropertyCountDto> countHousePropertiesByGu();
-
-    // 구별 오피스텔 매물 개수
-    @Query("SELECT p.guName AS guName, COUNT(p) AS propertyCount " +
-            "FROM Property p WHERE p.roomType = '오피스텔' " +
-            "GROUP BY p.guName")
-    List<GuPropertyCountDto> countOfficePropertiesByGu();
+    List<Property> findByPropertyIdIn(Collection<Integer> propertyIds);
+
+    // 개수 집계 큐브 적재용: afterId 이후 매물의 (동, 구, 타입 플래그) 별 개수와 내용 체크섬
+    // checksum 은 행별 CRC32 의 XOR 이므로 그룹끼리 XOR 로 합칠 수 있고, 응답에 나가는 컬럼이 바뀌면 값이 바뀝니다.
+    @Query(value = "SELECT dong_id AS dongId, gu_name AS guName, category_flags AS categoryFlags, " +
+            "COUNT(*) AS propertyCount, MAX(property_id) AS maxPropertyId, " +
+            "BIT_XOR(CRC32(CONCAT_WS('|', property_id, room_type, contract_type, price, address, description, " +
+            "area, floor_info, room_bath_count, maintenance_fee, move_in_date, direction, image_url, sale_price, " +
+            "deposit, monthly_rent, latitude, longitude))) AS checksum " +
+            "FROM property WHERE property_id > :afterId " +
+            "GROUP BY dong_id, gu_name, category_flags",
+            nativeQuery = true)
+    List<PropertyCountRollupDto> countRollupAfter(@Param("afterId") Integer afterId);
+
+    // 공간 인덱스 적재용: afterId 이후의 좌표가 있는 매물만 조회
+    @Query("SELECT p.propertyId AS propertyId, p.latitude AS latitude, p.longitude AS longitude, " +
+            "p.categoryFlags AS categoryFlags, p.monthlyRent AS monthlyRent " +
+            "FROM Property p WHERE p.propertyId > :afterId " +
+            "AND p.latitude IS NOT NULL AND p.longitude IS NOT NULL " +
+            "ORDER BY p.propertyId")
+    List<PropertyPointDto> findPointsAfter(@Param("afterId") Integer afterId);
+
+    // 지도 초기 레이어용 요약 (id, 좌표만 조회)
+    String SUMMARY_SELECT = "SELECT new com.zeepseek.backend.domain.property.dto.response.PropertySummaryDto(" +
+            "p.propertyId, p.latitude, p.longitude) FROM Property p";
+
+    @Query(SUMMARY_SELECT)
+    List<PropertySummaryDto> findAllSummaries();
+
+    // MySQL Connector/J 는 fetch size 가 Integer.MIN_VALUE 일 때 결과를 한 행씩 스트리밍합니다.
+    // 반드시 트랜잭션 안에서 사용하고 Stream 을 닫아야 합니다.
+    @Query(SUMMARY_SELECT)
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    Stream<PropertySummaryDto> streamAllSummaries();
 }
@@ -0,0 +1,16 @@
+package com.zeepseek.backend.domain.property.repository;
+
+import com.zeepseek.backend.domain.property.dto.request.CellBoundsDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyCardDto;
+import com.zeepseek.backend.domain.property.model.PropertyCategory;
+
+import java.util.List;
+
+public interface PropertyRepositoryCustom {
+
+    /**
+     * 여러 셀 중 하나 이상에 속하는 매물을 한 번의 쿼리로 조회합니다. (셀 경계는 [min, max))
+     * 셀별 분배는 호출하는 쪽에서 좌표로 수행합니다.
+     */
+    List<PropertyCardDto> findPropertiesInCells(List<CellBoundsDto> cells, PropertyCategory category);
+}
@@ -0,0 +1,92 @@
+package com.zeepseek.backend.domain.property.repository;
+
+import com.zeepseek.backend.domain.property.dto.request.CellBoundsDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyCardDto;
+import com.zeepseek.backend.domain.property.model.PropertyCategory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+public class PropertyRepositoryCustomImpl implements PropertyRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PropertyCardDto> findPropertiesInCells(List<CellBoundsDto> cells, PropertyCategory category) {
+        if (cells == null || cells.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // 셀 전체를 감싸는 범위(bounding box)를 MBRContains 로 공간 인덱스에서 한 번에 조회한 뒤,
+        // 요청한 셀 어디에도 속하지 않는 행(범위 안이지만 셀 사이 빈 곳의 매물)은 결과에서 제외합니다.
+        String sql = "SELECT property_id, room_type, contract_type, price, address, " +
+                "SUBSTRING(description, 1, " + PropertyRepository.CARD_DESCRIPTION_LENGTH + "), deposit, monthly_rent, " +
+                "latitude, longitude, image_url, dong_id FROM property " +
+                "WHERE MBRContains(ST_GeomFromText(:envelope, 4326), location)" +
+                categoryCondition(category);
+
+        List<Object[]> rows = entityManager.createNativeQuery(sql)
+                .setParameter("envelope", envelopeWkt(cells))
+                .getResultList();
+        List<PropertyCardDto> cards = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Double latitude = toDouble(row[8]);
+            Double longitude = toDouble(row[9]);
+            if (latitude == null || longitude == null || !inAnyCell(cells, latitude, longitude)) {
+                continue;
+            }
+            cards.add(new PropertyCardDto(toInteger(row[0]), (String) row[1], (String) row[2], (String) row[3],
+                    (String) row[4], (String) row[5], toInteger(row[6]), toInteger(row[7]), latitude,
+                    longitude, (String) row[10], toInteger(row[11])));
+        }
+        return cards;
+    }
+
+    // 셀 경계는 [min, max) 로 판정합니다. (서비스의 셀별 분배와 동일)
+    private static boolean inAnyCell(List<CellBoundsDto> cells, double lat, double lng) {
+        for (CellBoundsDto cell : cells) {
+            if (lat >= cell.getMinLat() && lat < cell.getMaxLat()
+                    && lng >= cell.getMinLng() && lng < cell.getMaxLng()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Integer toInteger(Object value) {
+        return value != null ? ((Number) value).intValue() : null;
+    }
+
+    private static Double toDouble(Object value) {
+        return value != null ? ((Number) value).doubleValue() : null;
+    }
+
+    private String categoryCondition(PropertyCategory category) {
+        if (category == PropertyCategory.ALL) {
+            return "";
+        }
+        return category.flagValues().stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(", ", " AND category_flags IN (", ")"));
+    }
+
+    // SRID 4326 은 위도, 경도 순서의 좌표축을 사용합니다. (기존 셀 쿼리와 동일)
+    private String envelopeWkt(List<CellBoundsDto> cells) {
+        double minLat = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+        double minLng = Double.MAX_VALUE, maxLng = -Double.MAX_VALUE;
+        for (CellBoundsDto cell : cells) {
+            minLat = Math.min(minLat, cell.getMinLat());
+            maxLat = Math.max(maxLat, cell.getMaxLat());
+            minLng = Math.min(minLng, cell.getMinLng());
+            maxLng = Math.max(maxLng, cell.getMaxLng());
+        }
+        return String.format(Locale.ROOT, "POLYGON((%s %s, %s %s, %s %s, %s %s, %s %s))",
+                minLat, minLng, minLat, maxLng, maxLat, maxLng, maxLat, minLng, minLat, minLng);
+    }
+}
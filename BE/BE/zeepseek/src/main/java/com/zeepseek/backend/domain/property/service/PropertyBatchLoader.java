@@ -0,0 +1,121 @@
+package com.zeepseek.backend.domain.property.service;
+
+import com.zeepseek.backend.domain.property.model.Property;
+import com.zeepseek.backend.domain.property.model.PropertyScore;
+import com.zeepseek.backend.domain.property.repository.PropertyScoreRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 매물/매물 점수를 id 목록 단위로 한 번에 조회하는 배치 로더 (DataLoader 방식)
+ *
+ * - 매물은 PropertyDetailCacheService.getMany (MGET + IN 쿼리 한 번), 점수는 IN 쿼리 한 번으로 조회합니다.
+ * - HTTP 요청 안에서 호출되면 조회 결과(없는 id 포함)를 요청 범위에 보관하여 같은 요청에서 다시 조회하지 않습니다.
+ * - 결과는 입력 순서를 유지하는 id -> 값 맵이며, 존재하지 않는 id 는 포함되지 않습니다.
+ *   (없는 id 를 건너뛸지 예외로 처리할지는 호출하는 쪽에서 결정)
+ */
+@Component
+public class PropertyBatchLoader {
+
+    private static final String PROPERTY_ATTRIBUTE = PropertyBatchLoader.class.getName() + ".properties";
+    private static final String SCORE_ATTRIBUTE = PropertyBatchLoader.class.getName() + ".scores";
+
+    private final PropertyDetailCacheService propertyDetailCacheService;
+    private final PropertyScoreRepository propertyScoreRepository;
+
+    public PropertyBatchLoader(PropertyDetailCacheService propertyDetailCacheService,
+                               PropertyScoreRepository propertyScoreRepository) {
+        this.propertyDetailCacheService = propertyDetailCacheService;
+        this.propertyScoreRepository = propertyScoreRepository;
+    }
+
+    public Map<Integer, Property> loadProperties(Collection<Integer> propertyIds) {
+        return load(propertyIds, PROPERTY_ATTRIBUTE, propertyDetailCacheService::getMany);
+    }
+
+    public Map<Integer, PropertyScore> loadScores(Collection<Integer> propertyIds) {
+        return load(propertyIds, SCORE_ATTRIBUTE, ids -> {
+            Map<Integer, PropertyScore> scores = new HashMap<>();
+            for (PropertyScore score : propertyScoreRepository.findByPropertyIdIn(ids)) {
+                scores.putIfAbsent(score.getPropertyId(), score);
+            }
+            return scores;
+        });
+    }
+
+    private <V> Map<Integer, V> load(Collection<Integer> propertyIds, String attribute,
+                                     Function<List<Integer>, Map<Integer, V>> batchFetch) {
+        Set<Integer> ids = new LinkedHashSet<>(propertyIds);
+        ids.remove(null);
+        RequestMemo<V> memo = memo(attribute);
+
+        List<Integer> pending = new ArrayList<>();
+        for (Integer id : ids) {
+            if (memo == null || !memo.isResolved(id)) {
+                pending.add(id);
+            }
+        }
+        Map<Integer, V> fetched = pending.isEmpty() ? Map.of() : batchFetch.apply(pending);
+        if (memo != null) {
+            memo.resolve(pending, fetched);
+        }
+
+        Map<Integer, V> result = new LinkedHashMap<>(ids.size() * 2);
+        for (Integer id : ids) {
+            V value = fetched.containsKey(id) ? fetched.get(id) : (memo != null ? memo.values.get(id) : null);
+            if (value != null) {
+                result.put(id, value);
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> RequestMemo<V> memo(String attribute) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        RequestMemo<V> memo = (RequestMemo<V>) attributes.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new RequestMemo<>();
+            attributes.setAttribute(attribute, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+
+    /**
+     * 요청 범위 조회 결과 (찾은 값 + 없는 것으로 확인된 id)
+     */
+    private static final class RequestMemo<V> {
+        private final Map<Integer, V> values = new HashMap<>();
+        private final Set<Integer> missing = new HashSet<>();
+
+        boolean isResolved(Integer id) {
+            return values.containsKey(id) || missing.contains(id);
+        }
+
+        void resolve(List<Integer> ids, Map<Integer, V> fetched) {
+            for (Integer id : ids) {
+                V value = fetched.get(id);
+                if (value != null) {
+                    values.put(id, value);
+                } else {
+                    missing.add(id);
+                }
+            }
+        }
+    }
+}
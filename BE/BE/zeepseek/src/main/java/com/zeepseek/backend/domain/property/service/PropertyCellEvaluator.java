@@ -0,0 +1,134 @@
+package com.zeepseek.backend.domain.property.service;
+
+import com.zeepseek.backend.domain.property.dto.request.CellBoundsDto;
+import com.zeepseek.backend.domain.property.exception.CellEvaluationTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 셀 목록을 묶음(chunk) 단위로 나눠 전용 스레드 풀에서 동시에 평가하는 실행기
+ *
+ * - 셀이 chunk-size 이하이거나 병렬 모드가 꺼져 있으면 요청 스레드에서 바로 평가합니다.
+ * - 풀/대기열이 가득 차 제출이 거절된 묶음은 요청 스레드에서 평가합니다.
+ * - 요청 단위 deadline 안에 끝나지 않으면 남은 작업을 취소하고 CellEvaluationTimeoutException 을 던집니다.
+ * - 결과는 입력 셀 순서대로 다시 합칩니다.
+ *
+ * 메트릭: executor.* (name=propertyCell), property.cells.evaluate (mode=sequential|parallel),
+ *        property.cells.deadline-exceeded
+ */
+@Slf4j
+@Component
+public class PropertyCellEvaluator {
+
+    private final boolean parallelEnabled;
+    private final int chunkSize;
+    private final Duration deadline;
+    private final ThreadPoolExecutor executor;
+    private final Timer sequentialTimer;
+    private final Timer parallelTimer;
+    private final Counter deadlineExceededCounter;
+
+    public PropertyCellEvaluator(@Value("${property.cells.parallel.enabled:true}") boolean parallelEnabled,
+                                 @Value("${property.cells.parallel.chunk-size:16}") int chunkSize,
+                                 @Value("${property.cells.parallel.pool-size:8}") int poolSize,
+                                 @Value("${property.cells.parallel.queue-capacity:64}") int queueCapacity,
+                                 @Value("${property.cells.parallel.deadline:3s}") Duration deadline,
+                                 MeterRegistry meterRegistry) {
+        this.parallelEnabled = parallelEnabled;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.deadline = deadline;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "property-cell-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "propertyCell");
+        this.sequentialTimer = meterRegistry.timer("property.cells.evaluate", "mode", "sequential");
+        this.parallelTimer = meterRegistry.timer("property.cells.evaluate", "mode", "parallel");
+        this.deadlineExceededCounter = meterRegistry.counter("property.cells.deadline-exceeded");
+    }
+
+    /**
+     * @param cells          평가할 셀 목록
+     * @param chunkEvaluator 셀 묶음 -> 묶음 내 셀 순서대로의 결과
+     * @return 입력 셀 순서대로의 결과
+     */
+    public <R> List<R> evaluate(List<CellBoundsDto> cells, Function<List<CellBoundsDto>, List<R>> chunkEvaluator) {
+        if (!parallelEnabled || cells.size() <= chunkSize) {
+            return sequentialTimer.record(() -> chunkEvaluator.apply(cells));
+        }
+        return parallelTimer.record(() -> evaluateInParallel(cells, chunkEvaluator));
+    }
+
+    private <R> List<R> evaluateInParallel(List<CellBoundsDto> cells,
+                                           Function<List<CellBoundsDto>, List<R>> chunkEvaluator) {
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+
+        List<Future<List<R>>> futures = new ArrayList<>();
+        for (int from = 0; from < cells.size(); from += chunkSize) {
+            List<CellBoundsDto> chunk = cells.subList(from, Math.min(from + chunkSize, cells.size()));
+            try {
+                futures.add(executor.submit(() -> chunkEvaluator.apply(chunk)));
+            } catch (RejectedExecutionException e) {
+                // 풀이 포화 상태이면 요청 스레드에서 평가 (호출자 실행)
+                futures.add(CompletableFuture.completedFuture(chunkEvaluator.apply(chunk)));
+            }
+        }
+
+        List<R> result = new ArrayList<>(cells.size());
+        try {
+            for (Future<List<R>> future : futures) {
+                long remaining = deadlineNanos - System.nanoTime();
+                result.addAll(future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS));
+            }
+        } catch (TimeoutException e) {
+            cancel(futures);
+            deadlineExceededCounter.increment();
+            log.warn("셀 {}개 평가가 제한 시간({})을 넘었습니다.", cells.size(), deadline);
+            throw new CellEvaluationTimeoutException("매물 조회 시간이 초과되었습니다. 조회 범위를 줄여 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("셀 평가 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            cancel(futures);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("셀 평가 실패", e.getCause());
+        }
+        return result;
+    }
+
+    private static void cancel(List<? extends Future<?>> futures) {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
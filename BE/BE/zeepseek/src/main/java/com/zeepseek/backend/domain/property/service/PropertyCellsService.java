@@ -1,7 +1,16 @@
 package com.zeepseek.backend.domain.property.service;
 
 import com.zeepseek.backend.domain.property.dto.request.CellBoundsDto;
+import com.zeepseek.backend.domain.property.dto.request.CommutePropertiesRequestDto;
+import com.zeepseek.backend.domain.property.dto.request.NearestPropertiesRequestDto;
+import com.zeepseek.backend.domain.property.dto.request.PropertyTilesRequestDto;
+import com.zeepseek.backend.domain.property.dto.request.ViewportDeltaRequestDto;
 import com.zeepseek.backend.domain.property.dto.response.CellPropertiesDto;
+import com.zeepseek.backend.domain.property.dto.response.CommutePropertiesDto;
+import com.zeepseek.backend.domain.property.dto.response.NearestPropertiesDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyClusterDto;
+import com.zeepseek.backend.domain.property.dto.response.TilePropertiesDto;
+import com.zeepseek.backend.domain.property.dto.response.ViewportDeltaDto;
 
 import java.util.List;
 
@@ -11,4 +20,29 @@ public interface PropertyCellsService {
      * propertyType 값: "all", "one-room", "house", "office"
      */
     List<CellPropertiesDto> getPropertiesForCells(List<CellBoundsDto> cells, String propertyType, int userId);
+
+    /**
+     * 뷰포트 안의 매물을 줌 레벨에 맞는 격자로 묶어 클러스터별 개수, 중심점, 월세 최소/평균을 반환
+     */
+    List<PropertyClusterDto> getClusters(CellBoundsDto viewport, int zoom, String propertyType);
+
+    /**
+     * 지도 타일(quadkey) 단위로 매물 목록을 반환 (타일 + 타입 단위 캐시 사용)
+     */
+    List<TilePropertiesDto> getPropertiesForTiles(PropertyTilesRequestDto request, String propertyType, int userId);
+
+    /**
+     * 이전 뷰포트 대비 현재 뷰포트에서 추가된 매물 카드와 제거된 매물 id 를 반환
+     */
+    ViewportDeltaDto getViewportDelta(ViewportDeltaRequestDto request, String propertyType, int userId);
+
+    /**
+     * 한 지점(목적지, 지하철역 등)에서 가까운 매물 k 개를 하버사인 거리 순으로 반환
+     */
+    NearestPropertiesDto getNearestProperties(NearestPropertiesRequestDto request, String propertyType, int userId);
+
+    /**
+     * 사용자의 희망 목적지(UserPreferences)까지 도보 시간이 maxMinutes 이내인 매물을 도보 시간 순으로 페이지 단위 반환
+     */
+    CommutePropertiesDto getCommuteProperties(CommutePropertiesRequestDto request, String propertyType, int userId);
 }
@@ -1,20 +1,42 @@
 package com.zeepseek.backend.domain.property.service;
 
 import com.zeepseek.backend.domain.property.dto.request.CellBoundsDto;
+import com.zeepseek.backend.domain.property.dto.request.CommutePropertiesRequestDto;
+import com.zeepseek.backend.domain.property.dto.request.NearestPropertiesRequestDto;
+import com.zeepseek.backend.domain.property.dto.request.PropertyTilesRequestDto;
+import com.zeepseek.backend.domain.property.dto.request.ViewportDeltaRequestDto;
 import com.zeepseek.backend.domain.property.dto.response.CellPropertiesDto;
-import com.zeepseek.backend.domain.property.model.Property;
-import com.zeepseek.backend.domain.property.model.PropertyWithLiked;
+import com.zeepseek.backend.domain.property.dto.response.CommutePropertiesDto;
+import com.zeepseek.backend.domain.property.dto.response.NearestPropertiesDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyCardDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyCardList;
+import com.zeepseek.backend.domain.property.dto.response.PropertyClusterDto;
+import com.zeepseek.backend.domain.property.dto.response.TilePropertiesDto;
+import com.zeepseek.backend.domain.property.dto.response.ViewportDeltaDto;
+import com.zeepseek.backend.domain.property.exception.InvalidPropertyQueryException;
+import com.zeepseek.backend.domain.property.exception.InvalidTileException;
+import com.zeepseek.backend.domain.property.index.CommuteProperties;
+import com.zeepseek.backend.domain.property.index.MapTile;
+import com.zeepseek.backend.domain.property.index.NearestProperties;
+import com.zeepseek.backend.domain.property.index.PropertySpatialIndex;
+import com.zeepseek.backend.domain.property.index.ViewportDelta;
+import com.zeepseek.backend.domain.property.model.PropertyCategory;
 import com.zeepseek.backend.domain.property.repository.PropertyRepository;
-import com.zeepseek.backend.domain.zzim.document.PropertyZzimDoc;
-import com.zeepseek.backend.domain.zzim.service.ZzimService;
+import com.zeepseek.backend.domain.user.entity.UserPreferences;
+import com.zeepseek.backend.domain.user.repository.UserPreferencesRepository;
+import com.zeepseek.backend.domain.zzim.service.LikedSet;
+import com.zeepseek.backend.domain.zzim.service.LikedSetService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.BeanUtils;
-import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -23,57 +45,323 @@ import java.util.stream.Collectors;
 public class PropertyCellsServiceImpl implements PropertyCellsService {
 
     private static final Logger log = LoggerFactory.getLogger(PropertyCellsServiceImpl.class);
+    // 한 번의 요청에서 조회할 수 있는 최대 타일 수
+    private static final int MAX_TILES_PER_REQUEST = 256;
+    // 최근접 조회에서 한 번에 반환할 수 있는 최대 매물 수
+    private static final int MAX_NEAREST = 200;
+    // 도보 시간 검색의 최대 기준 시간(분)과 페이지 크기
+    private static final int MAX_COMMUTE_MINUTES = 120;
+    private static final int MAX_COMMUTE_PAGE_SIZE = 100;
+    // 클러스터 조회의 줌 레벨 범위(웹 지도 기준)와 한 번에 훑을 수 있는 최대 클러스터 칸 수
+    private static final int MIN_MAP_ZOOM = 0;
+    private static final int MAX_MAP_ZOOM = 22;
+    private static final long MAX_CLUSTER_CELLS = 4096;
     private final PropertyRepository propertyRepository;
-    private final ZzimService zzimService;
+    private final LikedSetService likedSetService;
+    private final PropertySpatialIndex propertySpatialIndex;
+    private final PropertyTileCacheService propertyTileCacheService;
+    private final PropertyCellEvaluator propertyCellEvaluator;
+    private final UserPreferencesRepository userPreferencesRepository;
 
     @Override
     public List<CellPropertiesDto> getPropertiesForCells(List<CellBoundsDto> cells, String propertyType, int userId) {
-        return cells.stream().map(cell -> {
-            List<Property> properties;
-            // propertyType에 따라 쿼리 메서드를 호출합니다.
-            switch (propertyType.toLowerCase()) {
-                case "one-room":
-                    properties = propertyRepository.findOneRoomPropertiesInCell(
-                            cell.getMinLng(), cell.getMinLat(), cell.getMaxLng(), cell.getMaxLat());
-                    break;
-                case "office":
-                    properties = propertyRepository.findOfficePropertiesInCell(
-                            cell.getMinLng(), cell.getMinLat(), cell.getMaxLng(), cell.getMaxLat());
-                    break;
-                case "house":
-                    properties = propertyRepository.findHousePropertiesInCell(
-                            cell.getMinLng(), cell.getMinLat(), cell.getMaxLng(), cell.getMaxLat());
-                    break;
-                case "all":
-                default:
-                    properties = propertyRepository.findPropertiesInCell(
-                            cell.getMinLng(), cell.getMinLat(), cell.getMaxLng(), cell.getMaxLat());
-                    break;
+        PropertyCategory category = PropertyCategory.fromType(propertyType);
+        // 셀 묶음별로 동시에 평가하고 입력 셀 순서대로 합칩니다. (PropertyCellEvaluator)
+        boolean indexReady = propertySpatialIndex.isReady();
+        List<List<PropertyCardDto>> cellProperties = propertyCellEvaluator.evaluate(cells, chunk -> indexReady
+                ? findInCellsFromIndex(chunk, category)
+                : findInCellsFromDatabase(chunk, category));
+
+        LikedSet likedSet = findLikedSet(userId);
+        List<CellPropertiesDto> result = new ArrayList<>(cells.size());
+        for (int i = 0; i < cells.size(); i++) {
+            result.add(new CellPropertiesDto(cells.get(i), new PropertyCardList(cellProperties.get(i), likedSet)));
+        }
+        return result;
+    }
+
+    @Override
+    public List<TilePropertiesDto> getPropertiesForTiles(PropertyTilesRequestDto request, String propertyType, int userId) {
+        List<MapTile> tiles = resolveTiles(request);
+        PropertyCategory category = PropertyCategory.fromType(propertyType);
+        LikedSet likedSet = findLikedSet(userId);
+
+        List<TilePropertiesDto> result = new ArrayList<>(tiles.size());
+        for (MapTile tile : tiles) {
+            // 타일 캐시의 카드는 L1 에서 여러 요청이 공유하므로 변경하지 않고, 찜 여부는 직렬화 시점에 붙입니다.
+            List<PropertyCardDto> properties = propertyTileCacheService.getTileProperties(tile, category);
+            result.add(new TilePropertiesDto(tile.getQuadkey(), tile.toBounds(), new PropertyCardList(properties, likedSet)));
+        }
+        return result;
+    }
+
+    @Override
+    public ViewportDeltaDto getViewportDelta(ViewportDeltaRequestDto request, String propertyType, int userId) {
+        if (request.getViewport() == null) {
+            throw new InvalidTileException("viewport 를 지정해야 합니다.");
+        }
+        PropertyCategory category = PropertyCategory.fromType(propertyType);
+        LikedSet likedSet = findLikedSet(userId);
+
+        ViewportDelta delta = propertySpatialIndex.delta(
+                request.getPreviousViewport(), request.getViewport(), request.getVersion(), category);
+        if (delta == null) {
+            // 인덱스 적재 전에는 변경분을 계산할 수 없으므로 현재 뷰포트 전체를 반환 (version 0 은 다음 요청도 전체 조회)
+            List<PropertyCardDto> properties = findInCellsFromDatabase(List.of(request.getViewport()), category).get(0);
+            return new ViewportDeltaDto(0L, true, new PropertyCardList(properties, likedSet), new int[0]);
+        }
+
+        List<PropertyCardDto> added = findCards(delta.getAddedIds());
+        return new ViewportDeltaDto(delta.getVersion(), delta.isFull(), new PropertyCardList(added, likedSet),
+                delta.getRemovedIds());
+    }
+
+    @Override
+    public NearestPropertiesDto getNearestProperties(NearestPropertiesRequestDto request, String propertyType, int userId) {
+        if (request.getLat() == null || request.getLng() == null) {
+            throw new InvalidPropertyQueryException("lat, lng 를 지정해야 합니다.");
+        }
+        if (request.getK() < 1 || request.getK() > MAX_NEAREST) {
+            throw new InvalidPropertyQueryException("k 는 1 이상 " + MAX_NEAREST + " 이하여야 합니다: " + request.getK());
+        }
+        if (!Double.isFinite(request.getLat()) || request.getLat() < -90 || request.getLat() > 90
+                || !Double.isFinite(request.getLng()) || request.getLng() < -180 || request.getLng() > 180) {
+            throw new InvalidPropertyQueryException(
+                    "lat 는 -90 ~ 90, lng 는 -180 ~ 180 범위여야 합니다: " + request.getLat() + ", " + request.getLng());
+        }
+        if (request.getMaxDistanceKm() != null
+                && (!Double.isFinite(request.getMaxDistanceKm()) || request.getMaxDistanceKm() < 0)) {
+            throw new InvalidPropertyQueryException("maxDistanceKm 는 0 이상이어야 합니다: " + request.getMaxDistanceKm());
+        }
+        double lat = request.getLat();
+        double lng = request.getLng();
+        if (!propertySpatialIndex.isReady()) {
+            log.warn("공간 인덱스가 아직 적재되지 않아 최근접 매물을 계산할 수 없습니다.");
+            return new NearestPropertiesDto(lat, lng, new PropertyCardList(new ArrayList<>(), LikedSet.empty()), new double[0]);
+        }
+        NearestProperties nearest = propertySpatialIndex.nearest(lat, lng, request.getK(),
+                PropertyCategory.fromType(propertyType), request.getMinRent(), request.getMaxRent(),
+                request.getMaxDistanceKm());
+
+        // IN 조회 결과는 순서가 없으므로 인덱스의 거리 순서로 다시 맞춥니다.
+        Map<Integer, PropertyCardDto> byId = new HashMap<>(nearest.size() * 2);
+        for (PropertyCardDto card : findCards(nearest.getIds())) {
+            byId.put(card.getPropertyId(), card);
+        }
+        List<PropertyCardDto> cards = new ArrayList<>(nearest.size());
+        double[] distances = new double[nearest.size()];
+        for (int i = 0; i < nearest.size(); i++) {
+            PropertyCardDto card = byId.get(nearest.getIds()[i]);
+            if (card != null) {
+                distances[cards.size()] = nearest.getDistancesKm()[i];
+                cards.add(card);
             }
-            if(userId > 0) {
-                try {
-                    List<PropertyZzimDoc> propertyZzimDocs = zzimService.userSelectPropertyList(userId);
-                    // 사용자 찜 목록의 propertyId들을 Set으로 수집
-                    Set<Integer> likedPropertyIds = propertyZzimDocs.stream()
-                            .map(PropertyZzimDoc::getPropertyId)
-                            .collect(Collectors.toSet());
-
-                    // 각 Property를 PropertyWithLiked로 변환하면서 찜 여부 설정
-                    properties = properties.stream().map(property -> {
-                        PropertyWithLiked propertyWithLiked = new PropertyWithLiked();
-                        // 기존 Property의 모든 필드를 복사
-                        BeanUtils.copyProperties(property, propertyWithLiked);
-                        // 해당 propertyId가 찜 목록에 있으면 true, 없으면 false
-                        propertyWithLiked.setLiked(likedPropertyIds.contains(property.getPropertyId()));
-                        return propertyWithLiked;
-                    }).collect(Collectors.toList());
-                } catch (Exception e) {
-                    log.error("그리드 레벨 liked 표시중 userId error. userId: {}", userId, e);
+        }
+        return new NearestPropertiesDto(lat, lng, new PropertyCardList(cards, findLikedSet(userId)),
+                Arrays.copyOf(distances, cards.size()));
+    }
+
+    @Override
+    public CommutePropertiesDto getCommuteProperties(CommutePropertiesRequestDto request, String propertyType, int userId) {
+        if (request.getMaxMinutes() < 1 || request.getMaxMinutes() > MAX_COMMUTE_MINUTES) {
+            throw new InvalidPropertyQueryException(
+                    "maxMinutes 는 1 이상 " + MAX_COMMUTE_MINUTES + " 이하여야 합니다: " + request.getMaxMinutes());
+        }
+        if (request.getPage() < 1 || request.getSize() < 1 || request.getSize() > MAX_COMMUTE_PAGE_SIZE) {
+            throw new InvalidPropertyQueryException(
+                    "page 는 1 이상, size 는 1 이상 " + MAX_COMMUTE_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        UserPreferences preferences = userId > 0 ? userPreferencesRepository.findByUserId(userId) : null;
+        if (preferences == null || preferences.getLatitude() == null || preferences.getLongitude() == null) {
+            throw new InvalidPropertyQueryException("희망 목적지가 설정되지 않았습니다.");
+        }
+        double lat = preferences.getLatitude();
+        double lng = preferences.getLongitude();
+
+        CommuteProperties commute = propertySpatialIndex.withinWalkingTime(
+                lat, lng, request.getMaxMinutes() * 60, PropertyCategory.fromType(propertyType));
+        if (commute == null) {
+            log.warn("공간 인덱스가 아직 적재되지 않아 도보 시간 검색을 할 수 없습니다.");
+            return new CommutePropertiesDto(request.getMaxMinutes(), 0,
+                    new PropertyCardList(new ArrayList<>(), LikedSet.empty()), new int[0]);
+        }
+
+        // 정렬은 인덱스에서 끝났으므로 요청한 페이지의 매물만 조회합니다.
+        int from = (int) Math.min((long) (request.getPage() - 1) * request.getSize(), commute.size());
+        int to = Math.min(from + request.getSize(), commute.size());
+        int[] pageIds = Arrays.copyOfRange(commute.getIds(), from, to);
+        Map<Integer, PropertyCardDto> byId = new HashMap<>(pageIds.length * 2);
+        for (PropertyCardDto card : findCards(pageIds)) {
+            byId.put(card.getPropertyId(), card);
+        }
+        List<PropertyCardDto> cards = new ArrayList<>(pageIds.length);
+        int[] seconds = new int[pageIds.length];
+        for (int i = from; i < to; i++) {
+            PropertyCardDto card = byId.get(commute.getIds()[i]);
+            if (card != null) {
+                seconds[cards.size()] = commute.getWalkingSeconds()[i];
+                cards.add(card);
+            }
+        }
+        return new CommutePropertiesDto(request.getMaxMinutes(), commute.size(),
+                new PropertyCardList(cards, findLikedSet(userId)), Arrays.copyOf(seconds, cards.size()));
+    }
+
+    // 인덱스 갱신 전에 삭제된 매물은 조회되지 않으므로 결과에서 빠집니다.
+    private List<PropertyCardDto> findCards(int[] ids) {
+        if (ids.length == 0) {
+            return new ArrayList<>();
+        }
+        List<Integer> propertyIds = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            propertyIds.add(id);
+        }
+        return propertyRepository.findCardsByPropertyIdIn(propertyIds);
+    }
+
+    private List<MapTile> resolveTiles(PropertyTilesRequestDto request) {
+        List<MapTile> tiles;
+        if (request.getQuadkeys() != null && !request.getQuadkeys().isEmpty()) {
+            if (request.getQuadkeys().size() > MAX_TILES_PER_REQUEST) {
+                throw new InvalidTileException("Too many tiles requested: " + request.getQuadkeys().size());
+            }
+            tiles = request.getQuadkeys().stream().map(MapTile::fromQuadkey).distinct().collect(Collectors.toList());
+        } else if (request.getViewport() != null && request.getZoom() != null) {
+            checkTileZoom(request.getZoom());
+            if (!isValidViewport(request.getViewport())) {
+                throw new InvalidTileException("Invalid viewport: " + request.getViewport());
+            }
+            // 타일 목록을 만들기 전에 개수로 먼저 제한 (넓은 뷰포트 + 높은 줌에서 대량 할당 방지)
+            long count = MapTile.coveringCount(request.getViewport(), request.getZoom());
+            if (count > MAX_TILES_PER_REQUEST) {
+                throw new InvalidTileException("Too many tiles requested: " + count);
+            }
+            tiles = MapTile.covering(request.getViewport(), request.getZoom());
+        } else {
+            throw new InvalidTileException("quadkeys or viewport with zoom is required");
+        }
+        for (MapTile tile : tiles) {
+            checkTileZoom(tile.getZoom());
+        }
+        if (tiles.size() > MAX_TILES_PER_REQUEST) {
+            throw new InvalidTileException("Too many tiles requested: " + tiles.size());
+        }
+        return tiles;
+    }
+
+    private void checkTileZoom(int zoom) {
+        if (zoom < propertyTileCacheService.getMinZoom() || zoom > propertyTileCacheService.getMaxZoom()) {
+            throw new InvalidTileException("Tile zoom must be between " + propertyTileCacheService.getMinZoom()
+                    + " and " + propertyTileCacheService.getMaxZoom() + ": " + zoom);
+        }
+    }
+
+    @Override
+    public List<PropertyClusterDto> getClusters(CellBoundsDto viewport, int zoom, String propertyType) {
+        if (zoom < MIN_MAP_ZOOM || zoom > MAX_MAP_ZOOM) {
+            throw new InvalidPropertyQueryException(
+                    "zoom 은 " + MIN_MAP_ZOOM + " 이상 " + MAX_MAP_ZOOM + " 이하여야 합니다: " + zoom);
+        }
+        if (!isValidViewport(viewport)) {
+            throw new InvalidPropertyQueryException("뷰포트 범위가 올바르지 않습니다: " + viewport);
+        }
+        if (!propertySpatialIndex.isReady()) {
+            log.warn("공간 인덱스가 아직 적재되지 않아 클러스터를 계산할 수 없습니다.");
+            return new ArrayList<>();
+        }
+        long cells = propertySpatialIndex.clusterCellCount(viewport.getMinLat(), viewport.getMaxLat(),
+                viewport.getMinLng(), viewport.getMaxLng(), zoom);
+        if (cells > MAX_CLUSTER_CELLS) {
+            throw new InvalidPropertyQueryException("뷰포트가 줌 레벨 " + zoom + " 에 비해 너무 넓습니다. "
+                    + "(클러스터 칸 " + cells + "개, 최대 " + MAX_CLUSTER_CELLS + "개)");
+        }
+        return propertySpatialIndex.clusters(viewport.getMinLat(), viewport.getMaxLat(),
+                viewport.getMinLng(), viewport.getMaxLng(), zoom, PropertyCategory.fromType(propertyType));
+    }
+
+    // 유한한 값, 위도 [-90, 90] / 경도 [-180, 180] 범위, min <= max (클러스터 / 타일 뷰포트 공통)
+    private static boolean isValidViewport(CellBoundsDto viewport) {
+        double minLat = viewport.getMinLat(), maxLat = viewport.getMaxLat();
+        double minLng = viewport.getMinLng(), maxLng = viewport.getMaxLng();
+        return Double.isFinite(minLat) && Double.isFinite(maxLat) && Double.isFinite(minLng) && Double.isFinite(maxLng)
+                && minLat >= -90 && maxLat <= 90 && minLng >= -180 && maxLng <= 180
+                && minLat <= maxLat && minLng <= maxLng;
+    }
+
+    /**
+     * 메모리 공간 인덱스로 셀별 매물 id를 찾은 뒤, 묶음 내 셀의 매물을 한 번의 IN 쿼리로 조회합니다.
+     */
+    private List<List<PropertyCardDto>> findInCellsFromIndex(List<CellBoundsDto> cells, PropertyCategory category) {
+        List<int[]> cellIds = new ArrayList<>(cells.size());
+        Set<Integer> allIds = new HashSet<>();
+        for (CellBoundsDto cell : cells) {
+            int[] ids = propertySpatialIndex.query(
+                    cell.getMinLat(), cell.getMaxLat(), cell.getMinLng(), cell.getMaxLng(), category);
+            cellIds.add(ids);
+            for (int id : ids) {
+                allIds.add(id);
+            }
+        }
+
+        Map<Integer, PropertyCardDto> byId = new HashMap<>(allIds.size() * 2);
+        if (!allIds.isEmpty()) {
+            for (PropertyCardDto property : propertyRepository.findCardsByPropertyIdIn(allIds)) {
+                byId.put(property.getPropertyId(), property);
+            }
+        }
+
+        List<List<PropertyCardDto>> result = new ArrayList<>(cells.size());
+        for (int[] ids : cellIds) {
+            List<PropertyCardDto> properties = new ArrayList<>(ids.length);
+            for (int id : ids) {
+                PropertyCardDto property = byId.get(id);
+                // 인덱스 갱신 전에 삭제된 매물은 제외
+                if (property != null) {
+                    properties.add(property);
                 }
+            }
+            result.add(properties);
+        }
+        return result;
+    }
 
+    /**
+     * 묶음 내 셀을 한 번의 SQL 로 조회한 뒤 좌표로 셀별 분배 (공간 인덱스가 아직 적재되지 않았을 때 사용)
+     */
+    private List<List<PropertyCardDto>> findInCellsFromDatabase(List<CellBoundsDto> cells, PropertyCategory category) {
+        List<List<PropertyCardDto>> result = new ArrayList<>(cells.size());
+        for (int i = 0; i < cells.size(); i++) {
+            result.add(new ArrayList<>());
+        }
+        for (PropertyCardDto property : propertyRepository.findPropertiesInCells(cells, category)) {
+            if (property.getLatitude() == null || property.getLongitude() == null) {
+                continue;
             }
+            double lat = property.getLatitude();
+            double lng = property.getLongitude();
+            for (int i = 0; i < cells.size(); i++) {
+                CellBoundsDto cell = cells.get(i);
+                if (lat >= cell.getMinLat() && lat < cell.getMaxLat()
+                        && lng >= cell.getMinLng() && lng < cell.getMaxLng()) {
+                    result.get(i).add(property);
+                }
+            }
+        }
+        return result;
+    }
 
-            return new CellPropertiesDto(cell, properties);
-        }).collect(Collectors.toList());
+    /**
+     * 사용자 찜 집합 (비로그인 또는 조회 실패 시 null)
+     */
+    private LikedSet findLikedSet(int userId) {
+        if (userId <= 0) {
+            return null;
+        }
+        try {
+            return likedSetService.get(userId);
+        } catch (Exception e) {
+            log.error("그리드 레벨 liked 표시중 userId error. userId: {}", userId, e);
+            return null;
+        }
     }
 }
@@ -0,0 +1,147 @@
+package com.zeepseek.backend.domain.property.service;
+
+import com.zeepseek.backend.domain.property.model.Property;
+import com.zeepseek.backend.domain.property.repository.PropertyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * propertyId 단위 매물 상세 read-through 캐시 (property redis)
+ *
+ * - getMany: MGET 한 번으로 캐시를 조회하고, 없는 매물만 findByPropertyIdIn 한 번으로 조회한 뒤 파이프라인으로 저장합니다.
+ * - 존재하지 않는 매물은 캐시하지 않으며 결과에서 빠집니다.
+ * - 매물이 수정/삭제되면 evict 로 제거합니다. (그 외에는 TTL 로 만료)
+ * Redis 장애 시에는 DB 조회로 동작합니다.
+ *
+ * 메트릭: property.detail-cache.requests (result=hit|miss)
+ */
+@Slf4j
+@Service
+public class PropertyDetailCacheService {
+
+    private static final String KEY_PREFIX = "property:detail:";
+
+    private final PropertyRepository propertyRepository;
+    private final RedisTemplate<String, Property> redisTemplate;
+    private final Duration ttl;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public PropertyDetailCacheService(PropertyRepository propertyRepository,
+                                      @Qualifier("propertyDetailRedisTemplate") RedisTemplate<String, Property> redisTemplate,
+                                      @Value("${property.detail-cache.ttl:20m}") Duration ttl,
+                                      MeterRegistry meterRegistry) {
+        this.propertyRepository = propertyRepository;
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.hitCounter = meterRegistry.counter("property.detail-cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("property.detail-cache.requests", "result", "miss");
+    }
+
+    public Optional<Property> get(Integer propertyId) {
+        return Optional.ofNullable(getMany(List.of(propertyId)).get(propertyId));
+    }
+
+    /**
+     * propertyId -> 매물 (입력 순서 유지, 존재하지 않는 id 는 포함되지 않음)
+     */
+    public Map<Integer, Property> getMany(Collection<Integer> propertyIds) {
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(propertyIds));
+        Map<Integer, Property> found = new HashMap<>(ids.size() * 2);
+        if (ids.isEmpty()) {
+            return found;
+        }
+
+        List<Property> cached = multiGet(ids);
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Property property = cached != null ? cached.get(i) : null;
+            if (property != null) {
+                found.put(ids.get(i), property);
+            } else {
+                missing.add(ids.get(i));
+            }
+        }
+        hitCounter.increment(found.size());
+        missCounter.increment(missing.size());
+
+        if (!missing.isEmpty()) {
+            List<Property> loaded = propertyRepository.findByPropertyIdIn(missing);
+            loaded.forEach(p -> found.put(p.getPropertyId(), p));
+            multiSet(loaded);
+        }
+
+        Map<Integer, Property> ordered = new LinkedHashMap<>(found.size() * 2);
+        for (Integer id : ids) {
+            Property property = found.get(id);
+            if (property != null) {
+                ordered.put(id, property);
+            }
+        }
+        return ordered;
+    }
+
+    public void evict(Collection<Integer> propertyIds) {
+        if (propertyIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(propertyIds.stream().map(PropertyDetailCacheService::key).collect(Collectors.toList()));
+        } catch (DataAccessException e) {
+            log.warn("매물 상세 캐시 제거 실패: {}", e.getMessage());
+        }
+    }
+
+    private List<Property> multiGet(List<Integer> ids) {
+        try {
+            return redisTemplate.opsForValue().multiGet(ids.stream().map(PropertyDetailCacheService::key).collect(Collectors.toList()));
+        } catch (DataAccessException e) {
+            log.warn("매물 상세 캐시 조회 실패, DB 에서 조회합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // MSET 은 TTL 을 지정할 수 없으므로 SET EX 를 파이프라인으로 한 번에 보냅니다.
+    @SuppressWarnings("unchecked")
+    private void multiSet(List<Property> properties) {
+        if (properties.isEmpty()) {
+            return;
+        }
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        RedisSerializer<Property> valueSerializer = (RedisSerializer<Property>) redisTemplate.getValueSerializer();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Property property : properties) {
+                    connection.stringCommands().setEx(keySerializer.serialize(key(property.getPropertyId())),
+                            ttl.getSeconds(), valueSerializer.serialize(property));
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("매물 상세 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String key(Integer propertyId) {
+        return KEY_PREFIX + propertyId;
+    }
+}
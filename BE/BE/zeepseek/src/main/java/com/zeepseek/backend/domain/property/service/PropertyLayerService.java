@@ -0,0 +1,127 @@
+package com.zeepseek.backend.domain.property.service;
+
+import com.zeepseek.backend.config.cache.ResponseBytesCache;
+import com.zeepseek.backend.domain.property.dto.response.PropertySummaryDto;
+import com.zeepseek.backend.domain.property.index.PropertyIndexUpdatedEvent;
+import com.zeepseek.backend.domain.property.index.PropertyLayerEncoding;
+import com.zeepseek.backend.domain.property.index.PropertySpatialIndex;
+import com.zeepseek.backend.domain.property.repository.PropertyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 지도 초기 레이어 바이너리(PropertyLayerEncoding)를 데이터 버전마다 한 번만 만들어 보관합니다.
+ * 공간 인덱스가 갱신되면 다시 인코딩하고, 요청 시에는 미리 만든 바이트(원본/gzip)와 ETag 를 그대로 내려줍니다.
+ */
+@Slf4j
+@Service
+public class PropertyLayerService {
+
+    private final PropertyRepository propertyRepository;
+    private final PropertySpatialIndex propertySpatialIndex;
+
+    private volatile EncodedLayer layer;
+
+    public PropertyLayerService(PropertyRepository propertyRepository,
+                                PropertySpatialIndex propertySpatialIndex) {
+        this.propertyRepository = propertyRepository;
+        this.propertySpatialIndex = propertySpatialIndex;
+    }
+
+    /**
+     * 인덱스가 아직 적재되지 않았으면 DB 에서 직접 인코딩합니다. (이 경우 결과는 보관하지 않음)
+     */
+    public EncodedLayer getLayer() {
+        EncodedLayer current = this.layer;
+        if (current != null) {
+            return current;
+        }
+        if (propertySpatialIndex.isReady()) {
+            return rebuild(propertySpatialIndex.getVersion());
+        }
+        List<PropertySummaryDto> summaries = propertyRepository.findAllSummaries().stream()
+                .filter(p -> p.getLatitude() != null && p.getLongitude() != null)
+                .toList();
+        int n = summaries.size();
+        int[] ids = new int[n];
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        for (int i = 0; i < n; i++) {
+            PropertySummaryDto p = summaries.get(i);
+            ids[i] = p.getPropertyId();
+            lats[i] = p.getLatitude();
+            lngs[i] = p.getLongitude();
+        }
+        return EncodedLayer.of(0L, PropertyLayerEncoding.encode(ids, lats, lngs));
+    }
+
+    @EventListener
+    public void onIndexUpdated(PropertyIndexUpdatedEvent event) {
+        rebuild(event.getVersion());
+    }
+
+    private synchronized EncodedLayer rebuild(long version) {
+        EncodedLayer current = this.layer;
+        if (current != null && current.getVersion() >= version) {
+            return current;
+        }
+        long start = System.currentTimeMillis();
+        byte[] raw = propertySpatialIndex.encodeLayer();
+        if (raw == null) {
+            return null;
+        }
+        EncodedLayer next = EncodedLayer.of(version, raw);
+        this.layer = next;
+        log.info("지도 레이어 인코딩 완료: version {}, {} bytes (gzip {} bytes), {}ms",
+                version, next.getBody().raw().length, next.getBody().gzip().length, System.currentTimeMillis() - start);
+        return next;
+    }
+
+    /**
+     * 인코딩된 레이어 (불변)
+     */
+    public static final class EncodedLayer {
+        private final long version;
+        private final ResponseBytesCache.EncodedBody body;
+        private final String etag;
+
+        private EncodedLayer(long version, ResponseBytesCache.EncodedBody body, String etag) {
+            this.version = version;
+            this.body = body;
+            this.etag = etag;
+        }
+
+        static EncodedLayer of(long version, byte[] raw) {
+            return new EncodedLayer(version, ResponseBytesCache.EncodedBody.of(raw), etagOf(raw));
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        // 원본 + gzip 바이트
+        public ResponseBytesCache.EncodedBody getBody() {
+            return body;
+        }
+
+        // 내용 기반 ETag 이므로 인스턴스가 여러 대여도 같은 데이터면 같은 값입니다. (원본 표현 기준)
+        public String getEtag() {
+            return etag;
+        }
+
+        private static String etagOf(byte[] raw) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(raw);
+                return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
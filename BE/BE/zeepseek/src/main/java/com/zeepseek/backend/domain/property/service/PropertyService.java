@@ -4,31 +4,39 @@ import com.zeepseek.backend.domain.property.dto.request.CellBoundsDto;
 import com.zeepseek.backend.domain.property.dto.response.CellPropertiesDto;
 import com.zeepseek.backend.domain.property.dto.response.DongPropertyCountDto;
 import com.zeepseek.backend.domain.property.dto.response.GuPropertyCountDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyCardDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyCountsDto;
 import com.zeepseek.backend.domain.property.dto.response.PropertySummaryDto;
 import com.zeepseek.backend.domain.property.model.Property;
 import com.zeepseek.backend.domain.property.model.PropertyScore;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface PropertyService {
     Property getPropertyDetail(Long id);
     List<PropertySummaryDto> getAllPropertySummaries();
+    void writeAllPropertySummaries(OutputStream out, boolean ndjson) throws IOException;
     Page<PropertySummaryDto> getPropertySummaries(Pageable pageable);
-    List<Property> getPropertiesByDong(Integer dongId);
-    List<Property> getPropertiesByGu(String guName);
+    List<PropertyCardDto> getPropertiesByDong(Integer dongId);
+    List<PropertyCardDto> getPropertiesByGu(String guName);
     List<DongPropertyCountDto> countPropertiesByDong();
     List<GuPropertyCountDto> countPropertiesByGu();
-    List<Property> getOneRoomPropertiesByDongId(Integer dongId);
-    List<Property> getHousePropertiesByDongId(Integer dongId);
-    List<Property> getOfficePropertiesByDongId(Integer dongId);
-    List<Property> getOneRoomPropertiesByGuName(String guName);
-    List<Property> getHousePropertiesByGuName(String guName);
-    List<Property> getOfficePropertiesByGuName(String guName);
-    List<Property> getOneRoomProperties();
-    List<Property> getHouseProperties();
-    List<Property> getOfficeProperties();
+    PropertyCountsDto getAllPropertyCounts();
+    List<PropertyCardDto> getOneRoomPropertiesByDongId(Integer dongId);
+    List<PropertyCardDto> getHousePropertiesByDongId(Integer dongId);
+    List<PropertyCardDto> getOfficePropertiesByDongId(Integer dongId);
+    List<PropertyCardDto> getOneRoomPropertiesByGuName(String guName);
+    List<PropertyCardDto> getHousePropertiesByGuName(String guName);
+    List<PropertyCardDto> getOfficePropertiesByGuName(String guName);
+    List<PropertyCardDto> getOneRoomProperties();
+    List<PropertyCardDto> getHouseProperties();
+    List<PropertyCardDto> getOfficeProperties();
     List<DongPropertyCountDto> countOneRoomPropertiesByDong();
     List<DongPropertyCountDto> countHousePropertiesByDong();
     List<DongPropertyCountDto> countOfficePropertiesByDong();
@@ -37,4 +45,9 @@ public interface PropertyService {
     List<GuPropertyCountDto> countOfficePropertiesByGu();
 
     PropertyScore getPropertyScoreByPropertyId(Integer propertyId);
+    // 여러 매물을 한 번에 조회 (입력 순서 유지, 존재하지 않는 id 는 결과에서 제외)
+    Map<Integer, Property> getPropertyDetails(Collection<Integer> propertyIds);
+    // getPropertyDetails 와 같지만 ranking score(조회수)는 증가시키지 않음 (조회수를 따로 기록하는 경우)
+    Map<Integer, Property> findPropertyDetails(Collection<Integer> propertyIds);
+    Map<Integer, PropertyScore> getPropertyScoresByPropertyIds(Collection<Integer> propertyIds);
 }
@@ -3,26 +3,36 @@ package com.zeepseek.backend.domain.property.service;
 import com.zeepseek.backend.domain.property.dto.request.CellBoundsDto;
 import com.zeepseek.backend.domain.property.dto.response.CellPropertiesDto;
 import com.zeepseek.backend.domain.property.dto.response.DongPropertyCountDto;
-import com.zeepseek.backend.domain.property.dto.response.DongPropertyCountDtoImpl;
 import com.zeepseek.backend.domain.property.dto.response.GuPropertyCountDto;
-import com.zeepseek.backend.domain.property.dto.response.GuPropertyCountDtoImpl;
+import com.zeepseek.backend.domain.property.dto.response.PropertyCardDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyCountsDto;
 import com.zeepseek.backend.domain.property.dto.response.PropertySummaryDto;
 import com.zeepseek.backend.domain.property.exception.PropertyNotFoundException;
+import com.zeepseek.backend.domain.property.index.PropertyCountCube;
 import com.zeepseek.backend.domain.property.model.Property;
+import com.zeepseek.backend.domain.property.model.PropertyCategory;
 import com.zeepseek.backend.domain.property.model.PropertyScore;
 import com.zeepseek.backend.domain.property.repository.PropertyRepository;
 import com.zeepseek.backend.domain.property.repository.PropertyScoreRepository;
 import com.zeepseek.backend.domain.ranking.service.RankingService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 public class PropertyServiceImpl implements PropertyService {
@@ -31,17 +41,31 @@ public class PropertyServiceImpl implements PropertyService {
     private final PropertyRepository propertyRepository;
     private final PropertyScoreRepository propertyScoreRepository;
     private final RankingService rankingService;
+    private final ObjectMapper objectMapper;
+    private final PropertyCountCube propertyCountCube;
+    private final PropertyDetailCacheService propertyDetailCacheService;
+    private final PropertyBatchLoader propertyBatchLoader;
+
+    // 스트리밍 응답에서 flush 할 행 간격
+    private static final int STREAM_FLUSH_INTERVAL = 1000;
 
     @Autowired
-    public PropertyServiceImpl(PropertyRepository propertyRepository,  PropertyScoreRepository propertyScoreRepository, RankingService rankingService) {
+    public PropertyServiceImpl(PropertyRepository propertyRepository,  PropertyScoreRepository propertyScoreRepository,
+                               RankingService rankingService, ObjectMapper objectMapper,
+                               PropertyCountCube propertyCountCube, PropertyDetailCacheService propertyDetailCacheService,
+                               PropertyBatchLoader propertyBatchLoader) {
         this.propertyRepository = propertyRepository;
         this.propertyScoreRepository = propertyScoreRepository;
         this.rankingService = rankingService;
+        this.objectMapper = objectMapper;
+        this.propertyCountCube = propertyCountCube;
+        this.propertyDetailCacheService = propertyDetailCacheService;
+        this.propertyBatchLoader = propertyBatchLoader;
     }
 
     @Override
     public Property getPropertyDetail(Long id) {
-        Property property = propertyRepository.findById(id)
+        Property property = propertyDetailCacheService.get(id.intValue())
                 .orElseThrow(() -> {
                     // 존재하지 않으면 예외 처리
                     logger.warn("Property not found with id: {}", id);
@@ -52,15 +76,68 @@ public class PropertyServiceImpl implements PropertyService {
         return property;
     }
 
+    /**
+     * getPropertyDetail 의 배치 버전: 매물을 한 번에 조회하고 ranking score 증가도 한 번에 전송합니다.
+     */
+    @Override
+    public Map<Integer, Property> getPropertyDetails(Collection<Integer> propertyIds) {
+        Map<Integer, Property> properties = propertyBatchLoader.loadProperties(propertyIds);
+        Map<Integer, Integer> dongIdByPropertyId = new LinkedHashMap<>();
+        properties.forEach((propertyId, property) -> dongIdByPropertyId.put(propertyId, property.getDongId()));
+        rankingService.incrementPropertyCounts(dongIdByPropertyId);
+        return properties;
+    }
+
+    @Override
+    public Map<Integer, Property> findPropertyDetails(Collection<Integer> propertyIds) {
+        return propertyBatchLoader.loadProperties(propertyIds);
+    }
+
+    @Override
+    public Map<Integer, PropertyScore> getPropertyScoresByPropertyIds(Collection<Integer> propertyIds) {
+        return propertyBatchLoader.loadScores(propertyIds);
+    }
+
     @Override
     public List<PropertySummaryDto> getAllPropertySummaries() {
-        List<Property> properties = propertyRepository.findAll();
+        List<PropertySummaryDto> properties = propertyRepository.findAllSummaries();
         if (!properties.isEmpty()) {
             logger.info("Found {} properties for summary", properties.size());
         }
-        return properties.stream()
-                .map(p -> new PropertySummaryDto(p.getPropertyId(), p.getLatitude(), p.getLongitude()))
-                .collect(Collectors.toList());
+        return properties;
+    }
+
+    /**
+     * 전체 매물 요약을 DB 커서에서 한 행씩 읽어 바로 출력 스트림에 씁니다.
+     * 엔티티를 만들지 않고 전체 목록을 메모리에 모으지 않으므로 매물 수와 무관하게 힙 사용량이 일정합니다.
+     * ndjson 이 true 면 한 줄에 객체 하나(application/x-ndjson), false 면 기존과 같은 JSON 배열을 씁니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void writeAllPropertySummaries(OutputStream out, boolean ndjson) throws IOException {
+        int count = 0;
+        try (Stream<PropertySummaryDto> stream = propertyRepository.streamAllSummaries();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            if (ndjson) {
+                generator.setRootValueSeparator(null);
+            } else {
+                generator.writeStartArray();
+            }
+            Iterator<PropertySummaryDto> it = stream.iterator();
+            while (it.hasNext()) {
+                generator.writeObject(it.next());
+                if (ndjson) {
+                    generator.writeRaw('\n');
+                }
+                if (++count % STREAM_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        }
+        logger.info("Streamed {} property summaries (ndjson={})", count, ndjson);
     }
 
     @Override
@@ -73,8 +150,8 @@ public class PropertyServiceImpl implements PropertyService {
     }
 
     @Override
-    public List<Property> getPropertiesByDong(Integer dongId) {
-        List<Property> properties = propertyRepository.findByDongId(dongId);
+    public List<PropertyCardDto> getPropertiesByDong(Integer dongId) {
+        List<PropertyCardDto> properties = propertyRepository.findCardsByDongId(dongId);
         if (!properties.isEmpty()) {
             logger.info("Found {} properties for dongId {}", properties.size(), dongId);
         } else {
@@ -84,39 +161,25 @@ public class PropertyServiceImpl implements PropertyService {
     }
 
     @Override
-    public List<Property> getPropertiesByGu(String guName) {
-        List<Property> properties = propertyRepository.findByGuName(guName);
+    public List<PropertyCardDto> getPropertiesByGu(String guName) {
+        List<PropertyCardDto> properties = propertyRepository.findCardsByGuName(guName);
         logger.info("Found {} properties for guName {}", properties.size(), guName);
         return properties;
     }
 
     @Override
-    @Cacheable(value = "dongCounts", key = "'all'", cacheManager = "propertyCacheManager")
     public List<DongPropertyCountDto> countPropertiesByDong() {
-        List<DongPropertyCountDto> counts = propertyRepository.countPropertiesByDong();
-        if (!counts.isEmpty()) {
-            logger.info("Counting properties by dong: {} records", counts.size());
-        }
-        return counts.stream()
-                .map(c -> new DongPropertyCountDtoImpl(c.getDongId(), c.getPropertyCount()))
-                .collect(Collectors.toList());
+        return propertyCountCube.countByDong(PropertyCategory.ALL);
     }
 
     @Override
-    @Cacheable(value = "guCounts", key = "'all'", cacheManager = "propertyCacheManager")
     public List<GuPropertyCountDto> countPropertiesByGu() {
-        List<GuPropertyCountDto> counts = propertyRepository.countPropertiesByGu();
-        if (!counts.isEmpty()) {
-            logger.info("Counting properties by gu: {} records", counts.size());
-        }
-        return counts.stream()
-                .map(c -> new GuPropertyCountDtoImpl(c.getGuName(), c.getPropertyCount()))
-                .collect(Collectors.toList());
+        return propertyCountCube.countByGu(PropertyCategory.ALL);
     }
 
     @Override
-    public List<Property> getOneRoomPropertiesByDongId(Integer dongId) {
-        List<Property> properties = propertyRepository.findOneRoomByDongId(dongId);
+    public List<PropertyCardDto> getOneRoomPropertiesByDongId(Integer dongId) {
+        List<PropertyCardDto> properties = propertyRepository.findOneRoomCardsByDongId(dongId);
         if (!properties.isEmpty()) {
             logger.info("Found {} one-room properties for dongId {}", properties.size(), dongId);
         } else {
@@ -126,8 +189,8 @@ public class PropertyServiceImpl implements PropertyService {
     }
 
     @Override
-    public List<Property> getHousePropertiesByDongId(Integer dongId) {
-        List<Property> properties = propertyRepository.findHouseByDongId(dongId);
+    public List<PropertyCardDto> getHousePropertiesByDongId(Integer dongId) {
+        List<PropertyCardDto> properties = propertyRepository.findHouseCardsByDongId(dongId);
         if (!properties.isEmpty()) {
             logger.info("Found {} house properties for dongId {}", properties.size(), dongId);
         } else {
@@ -137,8 +200,8 @@ public class PropertyServiceImpl implements PropertyService {
     }
 
     @Override
-    public List<Property> getOfficePropertiesByDongId(Integer dongId) {
-        List<Property> properties = propertyRepository.findOfficeByDongId(dongId);
+    public List<PropertyCardDto> getOfficePropertiesByDongId(Integer dongId) {
+        List<PropertyCardDto> properties = propertyRepository.findOfficeCardsByDongId(dongId);
         if (!properties.isEmpty()) {
             logger.info("Found {} office properties for dongId {}", properties.size(), dongId);
         } else {
@@ -148,105 +211,86 @@ public class PropertyServiceImpl implements PropertyService {
     }
 
     @Override
-    public List<Property> getOneRoomPropertiesByGuName(String guName) {
-        List<Property> properties = propertyRepository.findOneRoomByGuName(guName);
+    public List<PropertyCardDto> getOneRoomPropertiesByGuName(String guName) {
+        List<PropertyCardDto> properties = propertyRepository.findOneRoomCardsByGuName(guName);
         logger.info("Found {} one-room properties for guName {}", properties.size(), guName);
         return properties;
     }
 
     @Override
-    public List<Property> getHousePropertiesByGuName(String guName) {
-        List<Property> properties = propertyRepository.findHouseByGuName(guName);
+    public List<PropertyCardDto> getHousePropertiesByGuName(String guName) {
+        List<PropertyCardDto> properties = propertyRepository.findHouseCardsByGuName(guName);
         logger.info("Found {} house properties for guName {}", properties.size(), guName);
         return properties;
     }
 
     @Override
-    public List<Property> getOfficePropertiesByGuName(String guName) {
-        List<Property> properties = propertyRepository.findOfficeByGuName(guName);
+    public List<PropertyCardDto> getOfficePropertiesByGuName(String guName) {
+        List<PropertyCardDto> properties = propertyRepository.findOfficeCardsByGuName(guName);
         logger.info("Found {} office properties for guName {}", properties.size(), guName);
         return properties;
     }
 
     @Override
-    public List<Property> getOneRoomProperties() {
-        List<Property> properties = propertyRepository.findOneRoomProperties();
+    public List<PropertyCardDto> getOneRoomProperties() {
+        List<PropertyCardDto> properties = propertyRepository.findOneRoomCards();
         logger.info("Found {} one-room properties for all regions", properties.size());
         return properties;
     }
 
     @Override
-    public List<Property> getHouseProperties() {
-        List<Property> properties = propertyRepository.findHouseProperties();
+    public List<PropertyCardDto> getHouseProperties() {
+        List<PropertyCardDto> properties = propertyRepository.findHouseCards();
         logger.info("Found {} house properties for all regions", properties.size());
         return properties;
     }
 
     @Override
-    public List<Property> getOfficeProperties() {
-        List<Property> properties = propertyRepository.findOfficeProperties();
+    public List<PropertyCardDto> getOfficeProperties() {
+        List<PropertyCardDto> properties = propertyRepository.findOfficeCards();
         logger.info("Found {} office properties for all regions", properties.size());
         return properties;
     }
 
     @Override
-    @Cacheable(value = "dongOneRoomCounts", cacheManager = "propertyCacheManager")
     public List<DongPropertyCountDto> countOneRoomPropertiesByDong() {
-        List<DongPropertyCountDto> counts = propertyRepository.countOneRoomPropertiesByDong();
-        logger.info("Found one-room property counts for {} dong records", counts.size());
-        return counts.stream()
-                .map(c -> new DongPropertyCountDtoImpl(c.getDongId(), c.getPropertyCount()))
-                .collect(Collectors.toList());
+        return propertyCountCube.countByDong(PropertyCategory.ONE_ROOM);
     }
 
     @Override
-    @Cacheable(value = "dongHouseCounts", cacheManager = "propertyCacheManager")
     public List<DongPropertyCountDto> countHousePropertiesByDong() {
-        List<DongPropertyCountDto> counts = propertyRepository.countHousePropertiesByDong();
-        logger.info("Found house property counts for {} dong records", counts.size());
-        return counts.stream()
-                .map(c -> new DongPropertyCountDtoImpl(c.getDongId(), c.getPropertyCount()))
-                .collect(Collectors.toList());
+        return propertyCountCube.countByDong(PropertyCategory.HOUSE);
     }
 
     @Override
-    @Cacheable(value = "dongOfficeCounts", cacheManager = "propertyCacheManager")
     public List<DongPropertyCountDto> countOfficePropertiesByDong() {
-        List<DongPropertyCountDto> counts = propertyRepository.countOfficePropertiesByDong();
-        logger.info("Found office property counts for {} dong records", counts.size());
-        return counts.stream()
-                .map(c -> new DongPropertyCountDtoImpl(c.getDongId(), c.getPropertyCount()))
-                .collect(Collectors.toList());
+        return propertyCountCube.countByDong(PropertyCategory.OFFICE);
     }
 
     @Override
-    @Cacheable(value = "guOneRoomCounts", cacheManager = "propertyCacheManager")
     public List<GuPropertyCountDto> countOneRoomPropertiesByGu() {
-        List<GuPropertyCountDto> counts = propertyRepository.countOneRoomPropertiesByGu();
-        logger.info("Found one-room property counts for {} gu records", counts.size());
-        return counts.stream()
-                .map(c -> new GuPropertyCountDtoImpl(c.getGuName(), c.getPropertyCount()))
-                .collect(Collectors.toList());
+        return propertyCountCube.countByGu(PropertyCategory.ONE_ROOM);
     }
 
     @Override
-    @Cacheable(value = "guHouseCounts", cacheManager = "propertyCacheManager")
     public List<GuPropertyCountDto> countHousePropertiesByGu() {
-        List<GuPropertyCountDto> counts = propertyRepository.countHousePropertiesByGu();
-        logger.info("Found house property counts for {} gu records", counts.size());
-        return counts.stream()
-                .map(c -> new GuPropertyCountDtoImpl(c.getGuName(), c.getPropertyCount()))
-                .collect(Collectors.toList());
+        return propertyCountCube.countByGu(PropertyCategory.HOUSE);
     }
 
     @Override
-    @Cacheable(value = "guOfficeCounts", cacheManager = "propertyCacheManager")
     public List<GuPropertyCountDto> countOfficePropertiesByGu() {
-        List<GuPropertyCountDto> counts = propertyRepository.countOfficePropertiesByGu();
-        logger.info("Found office property counts for {} gu records", counts.size());
-        return counts.stream()
-                .map(c -> new GuPropertyCountDtoImpl(c.getGuName(), c.getPropertyCount()))
-                .collect(Collectors.toList());
+        return propertyCountCube.countByGu(PropertyCategory.OFFICE);
+    }
+
+    @Override
+    public PropertyCountsDto getAllPropertyCounts() {
+        Map<String, List<DongPropertyCountDto>> dong = new LinkedHashMap<>();
+        Map<String, List<GuPropertyCountDto>> gu = new LinkedHashMap<>();
+        for (PropertyCategory category : PropertyCategory.values()) {
+            dong.put(category.getType(), propertyCountCube.countByDong(category));
+            gu.put(category.getType(), propertyCountCube.countByGu(category));
+        }
+        return new PropertyCountsDto(dong, gu);
     }
 
     @Override
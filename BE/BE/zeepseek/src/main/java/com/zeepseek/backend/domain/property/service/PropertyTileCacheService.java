@@ -0,0 +1,127 @@
+package com.zeepseek.backend.domain.property.service;
+
+import com.zeepseek.backend.domain.property.dto.request.CellBoundsDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyCardDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyPointDto;
+import com.zeepseek.backend.domain.property.index.MapTile;
+import com.zeepseek.backend.domain.property.index.PropertyIndexUpdatedEvent;
+import com.zeepseek.backend.domain.property.index.PropertySpatialIndex;
+import com.zeepseek.backend.domain.property.model.PropertyCategory;
+import com.zeepseek.backend.domain.property.repository.PropertyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 타일(quadkey) + 타입 단위로 매물 목록을 property redis 에 캐싱합니다.
+ * 공간 인덱스에 매물이 추가되면 해당 타일의 캐시만 제거하고, 전체 재적재 시에는 캐시를 비웁니다.
+ *
+ * 매물 수정/삭제 API 는 이 애플리케이션에 없습니다. (매물 데이터는 외부 적재 작업이 DB 에 직접 반영)
+ * 따라서 수정/삭제를 감지하는 시점은 공간 인덱스 전체 재적재(property.spatial-index.full-reload-ms)뿐이며,
+ * 그 사이에 수정/삭제된 매물은 타일 캐시 TTL(cache.redis.ttl.propertyTiles, 로컬은 cache.local.spec) 이 지나면 반영됩니다.
+ * 애플리케이션에 매물 수정/삭제 경로를 추가한다면 변경 전/후 좌표의 타일을 evictTiles 로 함께 제거해야 합니다.
+ */
+@Slf4j
+@Service
+public class PropertyTileCacheService {
+
+    public static final String CACHE_NAME = "propertyTiles";
+
+    private final PropertyRepository propertyRepository;
+    private final PropertySpatialIndex propertySpatialIndex;
+    private final CacheManager propertyCacheManager;
+    private final int minZoom;
+    private final int maxZoom;
+
+    public PropertyTileCacheService(PropertyRepository propertyRepository,
+                                    PropertySpatialIndex propertySpatialIndex,
+                                    @Qualifier("propertyCacheManager") CacheManager propertyCacheManager,
+                                    @Value("${property.tile.min-zoom:13}") int minZoom,
+                                    @Value("${property.tile.max-zoom:17}") int maxZoom) {
+        this.propertyRepository = propertyRepository;
+        this.propertySpatialIndex = propertySpatialIndex;
+        this.propertyCacheManager = propertyCacheManager;
+        this.minZoom = minZoom;
+        this.maxZoom = maxZoom;
+    }
+
+    public int getMinZoom() {
+        return minZoom;
+    }
+
+    public int getMaxZoom() {
+        return maxZoom;
+    }
+
+    @Cacheable(value = CACHE_NAME, key = "#tile.quadkey + ':' + #category.type", cacheManager = "propertyCacheManager")
+    public List<PropertyCardDto> getTileProperties(MapTile tile, PropertyCategory category) {
+        CellBoundsDto bounds = tile.toBounds();
+        if (!propertySpatialIndex.isReady()) {
+            return propertyRepository.findPropertiesInCells(List.of(bounds), category).stream()
+                    .filter(p -> p.getLatitude() != null && p.getLongitude() != null
+                            && p.getLatitude() >= bounds.getMinLat() && p.getLatitude() < bounds.getMaxLat()
+                            && p.getLongitude() >= bounds.getMinLng() && p.getLongitude() < bounds.getMaxLng())
+                    .collect(Collectors.toList());
+        }
+        int[] ids = propertySpatialIndex.query(
+                bounds.getMinLat(), bounds.getMaxLat(), bounds.getMinLng(), bounds.getMaxLng(), category);
+        if (ids.length == 0) {
+            return new ArrayList<>();
+        }
+        return propertyRepository.findCardsByPropertyIdIn(Arrays.stream(ids).boxed().collect(Collectors.toList()));
+    }
+
+    @EventListener
+    public void onIndexUpdated(PropertyIndexUpdatedEvent event) {
+        Cache cache = propertyCacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        if (event.isFullReload()) {
+            cache.clear();
+            log.info("공간 인덱스 전체 재적재로 타일 캐시를 비웠습니다.");
+            return;
+        }
+        int evicted = evictTiles(cache, event.getAddedPoints());
+        log.info("매물 추가로 타일 캐시 {}개 타일을 제거했습니다.", evicted);
+    }
+
+    /**
+     * 좌표들이 속한 모든 줌 레벨 / 타입의 타일 캐시 제거, 제거한 타일 수 반환
+     * 수정이라면 변경 전/후 좌표를 모두 넘겨야 합니다.
+     */
+    public int evictTiles(List<PropertyPointDto> points) {
+        Cache cache = propertyCacheManager.getCache(CACHE_NAME);
+        return cache != null ? evictTiles(cache, points) : 0;
+    }
+
+    private int evictTiles(Cache cache, List<PropertyPointDto> points) {
+        Set<String> quadkeys = new HashSet<>();
+        for (PropertyPointDto point : points) {
+            if (point.getLatitude() == null || point.getLongitude() == null) {
+                continue;
+            }
+            for (int zoom = minZoom; zoom <= maxZoom; zoom++) {
+                quadkeys.add(MapTile.containing(point.getLatitude(), point.getLongitude(), zoom).getQuadkey());
+            }
+        }
+        for (String quadkey : quadkeys) {
+            for (PropertyCategory category : PropertyCategory.values()) {
+                cache.evict(quadkey + ":" + category.getType());
+            }
+        }
+        return quadkeys.size();
+    }
+}
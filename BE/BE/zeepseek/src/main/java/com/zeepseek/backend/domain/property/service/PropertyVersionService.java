@@ -0,0 +1,83 @@
+package com.zeepseek.backend.domain.property.service;
+
+import com.zeepseek.backend.config.version.DataVersionService;
+import com.zeepseek.backend.domain.property.index.PropertyCountCube;
+import com.zeepseek.backend.domain.property.index.PropertyCountsChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 매물 조회 API 의 ETag
+ *
+ * 버전 필드 (DataVersionService)
+ * - property:epoch      : 기동 후 첫 집계마다 증가 (비교 기준이 없으므로 전체 무효화)
+ * - property:all        : 어느 동/구든 매물 개수나 내용이 바뀌면 증가 (전체/타입별 목록, 개수 집계)
+ * - property:dong:{id}  : 해당 동의 매물 개수나 내용이 바뀌면 증가
+ * - property:gu:{name}  : 해당 구의 매물 개수나 내용이 바뀌면 증가
+ * 변경 감지는 PropertyCountCube 의 갱신(증분 적재, 주기 재집계)을 따르며, 개수와 함께 내용 체크섬을 비교하므로
+ * 가격/이미지/설명 수정도 다음 전체 재집계(property.count-cube.rebuild-ms, 기본 15분) 안에 ETag 에 반영됩니다.
+ *
+ * 개수 집계 응답(countEtag)은 공유 버전 대신 이 노드 PropertyCountCube 스냅샷의 내용 해시를 사용합니다.
+ * 응답 본문이 노드 메모리의 큐브에서 만들어지므로, 아직 재집계하지 않은 노드가 새 버전 키로
+ * 이전 개수를 공유 캐시(L2)에 저장하지 않도록 하기 위해서입니다.
+ */
+@Service
+public class PropertyVersionService {
+
+    private static final String EPOCH = "property:epoch";
+    private static final String ALL = "property:all";
+
+    private final DataVersionService dataVersionService;
+    private final PropertyCountCube propertyCountCube;
+
+    public PropertyVersionService(DataVersionService dataVersionService, PropertyCountCube propertyCountCube) {
+        this.dataVersionService = dataVersionService;
+        this.propertyCountCube = propertyCountCube;
+    }
+
+    @EventListener
+    public void onCountsChanged(PropertyCountsChangedEvent event) {
+        if (event.isAll()) {
+            dataVersionService.bump(EPOCH, ALL);
+            return;
+        }
+        List<String> fields = new ArrayList<>();
+        fields.add(ALL);
+        // null 동/구(동/구가 없는 매물)는 개별 조회 API 가 없으므로 ALL 만 올립니다.
+        event.getDongIds().stream().filter(Objects::nonNull).forEach(dongId -> fields.add(dongField(dongId)));
+        event.getGuNames().stream().filter(Objects::nonNull).forEach(guName -> fields.add(guField(guName)));
+        dataVersionService.bump(fields);
+    }
+
+    public String dongEtag(String prefix, Integer dongId) {
+        return dataVersionService.etag(prefix, EPOCH, dongField(dongId));
+    }
+
+    public String guEtag(String prefix, String guName) {
+        return dataVersionService.etag(prefix, EPOCH, guField(guName));
+    }
+
+    public String allEtag(String prefix) {
+        return dataVersionService.etag(prefix, EPOCH, ALL);
+    }
+
+    /**
+     * 개수 집계 응답의 ETag (예: "count-dong-3f2a...")
+     * 본문을 만드는 중에 큐브가 갱신되면 본문이 키보다 새로울 수는 있지만 이전 개수가 새 키로 저장되지는 않습니다.
+     */
+    public String countEtag(String prefix) {
+        return "\"" + prefix + "-" + propertyCountCube.getContentVersion() + "\"";
+    }
+
+    private static String dongField(Integer dongId) {
+        return "property:dong:" + dongId;
+    }
+
+    private static String guField(String guName) {
+        return "property:gu:" + guName;
+    }
+}
@@ -1,10 +1,13 @@
 package com.zeepseek.backend.domain.ranking.controller;
 
+import com.zeepseek.backend.config.cache.ConditionalResponses;
 import com.zeepseek.backend.domain.dong.document.DongInfoDocs;
 import com.zeepseek.backend.domain.dong.entity.DongInfo;
 import com.zeepseek.backend.domain.dong.service.DongService;
+import com.zeepseek.backend.domain.property.exception.PropertyNotFoundException;
 import com.zeepseek.backend.domain.property.model.Property;
 import com.zeepseek.backend.domain.property.service.PropertyService;
+import com.zeepseek.backend.domain.property.service.PropertyVersionService;
 import com.zeepseek.backend.domain.ranking.dto.RankingResponse;
 import com.zeepseek.backend.domain.ranking.service.RankingService;
 import com.zeepseek.backend.domain.search.document.LogDocument;
@@ -12,9 +15,11 @@ import com.zeepseek.backend.domain.search.service.LogSearchService;
 import com.zeepseek.backend.domain.user.entity.UserPreferences;
 import com.zeepseek.backend.domain.user.service.UserServiceImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -30,6 +35,7 @@ public class RankingController {
     private final LogSearchService logSearchService;
     private final DongService dongService;
     private final PropertyService propertyService;
+    private final PropertyVersionService propertyVersionService;
     private final UserServiceImpl userService;
     /**
      * 특정 dongId에 대해 ranking score가 높은 상위 5개 propertyId와 score를 조회합니다.
@@ -38,15 +44,15 @@ public class RankingController {
      * @return 상위 5개 property의 랭킹 정보
      */
     @GetMapping("/{userId}")
-    public ResponseEntity<?> getTop5Ranking(@PathVariable int userId) {
+    public ResponseEntity<?> getTop5Ranking(
+            @PathVariable int userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         LogDocument logDocument = logSearchService.getLatestUserLog(userId);
         String dongId = "11410555";
         UserPreferences userPreferences = userService.findByUserId(userId);
         if(userPreferences != null) dongId = String.valueOf(userPreferences.getDongId());
         if(logDocument != null) dongId = logDocument.getDongId();
 
-        DongInfoDocs dongInfo = dongService.getDongDetail(Integer.parseInt(dongId));
-
         Set<org.springframework.data.redis.core.ZSetOperations.TypedTuple<Object>> topProperties =
                 rankingService.getTop5PropertiesByDongId(dongId);
         // DTO 매핑: propertyId(문자열을 Long으로 변환)와 score를 포함
@@ -54,17 +60,37 @@ public class RankingController {
                 .map(tuple -> new RankingResponse(Integer.valueOf(tuple.getValue().toString()), tuple.getScore()))
                 .collect(Collectors.toList());
 
-        List<Property> properties = new ArrayList<>();
+        // 순위 매물 조회는 조회수로 집계되므로 304 로 응답하더라도 먼저 기록합니다.
+        // (ranking:{dongId} 에는 해당 동의 매물만 있으므로 매물의 동은 dongId 입니다)
+        int rankingDongId = Integer.parseInt(dongId);
+        Map<Integer, Integer> dongIdByPropertyId = new LinkedHashMap<>();
+        responses.forEach(rank -> dongIdByPropertyId.put(rank.getPropertyId(), rankingDongId));
+        rankingService.incrementPropertyCounts(dongIdByPropertyId);
+
+        // 응답은 동 이름 + 순위별 매물이므로 (동, 상위 매물 id 순서, 해당 동 매물 버전)이 같으면 304
+        // (동 문서와 매물 상세는 조회하지 않습니다)
+        String etag = propertyVersionService.dongEtag("rank-" + dongId + "-" + responses.stream()
+                .map(rank -> String.valueOf(rank.getPropertyId()))
+                .collect(Collectors.joining(".")), rankingDongId);
+        return ConditionalResponses.respond(etag, ifNoneMatch, () -> {
+            DongInfoDocs dongInfo = dongService.getDongDetail(rankingDongId);
+            Map<Integer, Property> propertyMap = propertyService.findPropertyDetails(
+                    dongIdByPropertyId.keySet());
 
-        for(RankingResponse rank : responses) {
-            Property property = propertyService.getPropertyDetail((long) rank.getPropertyId());
-            properties.add(property);
-        }
+            List<Property> properties = new ArrayList<>();
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("name", dongInfo.getName());
-        response.put("properties", properties);
+            for(RankingResponse rank : responses) {
+                Property property = propertyMap.get(rank.getPropertyId());
+                if (property == null) {
+                    throw new PropertyNotFoundException("Property with id " + rank.getPropertyId() + " not found.");
+                }
+                properties.add(property);
+            }
 
-        return ResponseEntity.ok(response);
+            Map<String, Object> response = new HashMap<>();
+            response.put("name", dongInfo.getName());
+            response.put("properties", properties);
+            return response;
+        });
     }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.zeepseek.backend.domain.ranking.service;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
 import java.util.Set;
 
 @Service
@@ -29,6 +32,26 @@ public class RankingService {
         rankingRedisTemplate.opsForZSet().incrementScore(key, propertyId.toString(), 1);
     }
 
+    /**
+     * 여러 property 를 한 번에 조회했을 때 호출되어, 각 property 의 ranking score 를 1 씩 증가시킵니다.
+     * ZINCRBY 명령을 파이프라인으로 한 번에 전송합니다.
+     *
+     * @param dongIdByPropertyId propertyId -> 해당 property 의 동 아이디
+     */
+    @SuppressWarnings("unchecked")
+    public void incrementPropertyCounts(Map<Integer, Integer> dongIdByPropertyId) {
+        if (dongIdByPropertyId.isEmpty()) {
+            return;
+        }
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) rankingRedisTemplate.getKeySerializer();
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) rankingRedisTemplate.getValueSerializer();
+        rankingRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            dongIdByPropertyId.forEach((propertyId, dongId) -> connection.zSetCommands().zIncrBy(
+                    keySerializer.serialize("ranking:" + dongId), 1, valueSerializer.serialize(propertyId.toString())));
+            return null;
+        });
+    }
+
     /**
      * 특정 dongId에 대해 score가 높은 상위 5개의 propertyId를 조회합니다.
      *
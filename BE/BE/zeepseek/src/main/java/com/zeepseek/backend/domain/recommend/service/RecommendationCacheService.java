@@ -2,7 +2,6 @@ package com.zeepseek.backend.domain.recommend.service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.zeepseek.backend.domain.property.exception.PropertyNotFoundException;
 import com.zeepseek.backend.domain.property.model.Property;
 import com.zeepseek.backend.domain.property.model.PropertyScore;
 import com.zeepseek.backend.domain.property.service.PropertyService;
@@ -21,6 +20,7 @@ import reactor.core.publisher.Mono;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @Service
@@ -110,45 +110,52 @@ public class RecommendationCacheService {
         // ★ 주의: 여기서는 찜 여부(liked)는 기본값(false)으로 설정 (후처리로 최신화)
         List<DetailedRecommendationDto> detailedList = new ArrayList<>();
 
+        // 추천된 매물과 점수를 각각 한 번에 조회
+        List<Integer> propertyIds = recList.stream()
+                .map(rec -> Math.toIntExact(rec.getPropertyId()))
+                .collect(Collectors.toList());
+        Map<Integer, Property> propertyMap = propertyService.getPropertyDetails(propertyIds);
+        Map<Integer, PropertyScore> scoreMap = propertyService.getPropertyScoresByPropertyIds(propertyIds);
+
         for (RecommendationDto rec : recList) {
-            try {
-                Property property = propertyService.getPropertyDetail((long) rec.getPropertyId());
-                PropertyScore score = propertyService.getPropertyScoreByPropertyId(Math.toIntExact(rec.getPropertyId()));
-
-                DetailedRecommendationWithLikedDto dto = new DetailedRecommendationWithLikedDto();
-                dto.setPropertyId(property.getPropertyId());
-                dto.setAddress(property.getAddress());
-                dto.setRoomType(property.getRoomType());
-                dto.setContractType(property.getContractType());
-                dto.setDeposit(property.getDeposit());
-                dto.setMonthlyRent(property.getMonthlyRent());
-                dto.setImageUrl(property.getImageUrl());
-
-                dto.setTransportScore(score.getTransportScore());
-                dto.setTransportCount(score.getTransportCount());
-                dto.setRestaurantScore(score.getRestaurantScore());
-                dto.setRestaurantCount(score.getRestaurantCount());
-                dto.setHealthScore(score.getHealthScore());
-                dto.setHealthCount(score.getHealthCount());
-                dto.setConvenienceScore(score.getConvenienceScore());
-                dto.setConvenienceCount(score.getConvenienceCount());
-                dto.setCafeScore(score.getCafeScore());
-                dto.setCafeCount(score.getCafeCount());
-                dto.setChickenScore(score.getChickenScore());
-                dto.setChickenCount(score.getChickenCount());
-                dto.setLeisureScore(score.getLeisureScore());
-                dto.setLeisureCount(score.getLeisureCount());
-                dto.setLatitude(property.getLatitude());
-                dto.setLongitude(property.getLongitude());
-                dto.setSimilarity(rec.getSimilarity());
-
-                // 찜 여부는 기본값(false)로 초기화 (후처리 단계에서 별도로 업데이트)
-                dto.setLiked(false);
-
-                detailedList.add(dto);
-            } catch (PropertyNotFoundException ex) {
+            Property property = propertyMap.get(Math.toIntExact(rec.getPropertyId()));
+            PropertyScore score = scoreMap.get(Math.toIntExact(rec.getPropertyId()));
+            if (property == null || score == null) {
                 logger.warn("Property not found for id: {}", rec.getPropertyId());
+                continue;
             }
+
+            DetailedRecommendationWithLikedDto dto = new DetailedRecommendationWithLikedDto();
+            dto.setPropertyId(property.getPropertyId());
+            dto.setAddress(property.getAddress());
+            dto.setRoomType(property.getRoomType());
+            dto.setContractType(property.getContractType());
+            dto.setDeposit(property.getDeposit());
+            dto.setMonthlyRent(property.getMonthlyRent());
+            dto.setImageUrl(property.getImageUrl());
+
+            dto.setTransportScore(score.getTransportScore());
+            dto.setTransportCount(score.getTransportCount());
+            dto.setRestaurantScore(score.getRestaurantScore());
+            dto.setRestaurantCount(score.getRestaurantCount());
+            dto.setHealthScore(score.getHealthScore());
+            dto.setHealthCount(score.getHealthCount());
+            dto.setConvenienceScore(score.getConvenienceScore());
+            dto.setConvenienceCount(score.getConvenienceCount());
+            dto.setCafeScore(score.getCafeScore());
+            dto.setCafeCount(score.getCafeCount());
+            dto.setChickenScore(score.getChickenScore());
+            dto.setChickenCount(score.getChickenCount());
+            dto.setLeisureScore(score.getLeisureScore());
+            dto.setLeisureCount(score.getLeisureCount());
+            dto.setLatitude(property.getLatitude());
+            dto.setLongitude(property.getLongitude());
+            dto.setSimilarity(rec.getSimilarity());
+
+            // 찜 여부는 기본값(false)로 초기화 (후처리 단계에서 별도로 업데이트)
+            dto.setLiked(false);
+
+            detailedList.add(dto);
         }
 
         DetailedRecommendationResponseDto detailedResponse = new DetailedRecommendationResponseDto();
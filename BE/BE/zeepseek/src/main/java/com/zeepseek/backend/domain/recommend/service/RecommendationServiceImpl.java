@@ -4,15 +4,14 @@ import com.zeepseek.backend.domain.dong.entity.DongInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.zeepseek.backend.domain.dong.repository.MySQLDongRepository;
-import com.zeepseek.backend.domain.property.exception.PropertyNotFoundException;
 import com.zeepseek.backend.domain.property.model.Property;
 import com.zeepseek.backend.domain.property.model.PropertyScore;
 import com.zeepseek.backend.domain.property.service.PropertyService;
 import com.zeepseek.backend.domain.recommend.dto.request.UserRecommendationRequestDto;
 import com.zeepseek.backend.domain.recommend.dto.response.*;
 import com.zeepseek.backend.domain.recommend.exception.RecommendationException;
-import com.zeepseek.backend.domain.zzim.document.PropertyZzimDoc;
-import com.zeepseek.backend.domain.zzim.service.ZzimService;
+import com.zeepseek.backend.domain.zzim.service.LikedSet;
+import com.zeepseek.backend.domain.zzim.service.LikedSetService;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
@@ -25,7 +24,6 @@ import reactor.core.publisher.Mono;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,17 +33,17 @@ public class RecommendationServiceImpl implements RecommendationService {
     private final WebClient recommendationWebClient;
     private final PropertyService propertyService;
     private final MySQLDongRepository dongRepository;
-    private final ZzimService zzimService;
+    private final LikedSetService likedSetService;
     private final RecommendationCacheService recommendationCacheService;
 
     public RecommendationServiceImpl(WebClient recommendationWebClient,
                                      PropertyService propertyService,
                                      MySQLDongRepository dongRepository,
-                                     ZzimService zzimService, RecommendationCacheService recommendationCacheService) {
+                                     LikedSetService likedSetService, RecommendationCacheService recommendationCacheService) {
         this.recommendationWebClient = recommendationWebClient;
         this.propertyService = propertyService;
         this.dongRepository = dongRepository;
-        this.zzimService = zzimService;
+        this.likedSetService = likedSetService;
         this.recommendationCacheService = recommendationCacheService;
     }
 
@@ -55,16 +53,12 @@ public class RecommendationServiceImpl implements RecommendationService {
      * 캐시된 추천 결과에 대해 찜(zzim) 여부를 최신 정보로 업데이트하는 후처리 메서드
      */
     private void updateLikedStatus(DetailedRecommendationResponseDto recommendations, Long userId) {
-        // 최신 찜 목록을 조회 (여기서는 zzimService를 호출)
-        List<PropertyZzimDoc> zzimDocs = zzimService.userSelectPropertyList(userId.intValue());
-        Set<Integer> likedPropertyIds = zzimDocs.stream()
-                .map(PropertyZzimDoc::getPropertyId)
-                .collect(Collectors.toSet());
+        // 최신 찜 집합을 조회 (likedSetService 캐시)
+        LikedSet likedSet = likedSetService.get(userId.intValue());
 
         if (recommendations != null && recommendations.getRecommendedProperties() != null) {
-            for (DetailedRecommendationDto dto : recommendations.getRecommendedProperties()) {
-                dto.setLiked(likedPropertyIds.contains(dto.getPropertyId()));
-            }
+            likedSet.markProperties(recommendations.getRecommendedProperties(),
+                    DetailedRecommendationDto::getPropertyId, DetailedRecommendationDto::setLiked);
         }
     }
 
@@ -101,11 +95,14 @@ public class RecommendationServiceImpl implements RecommendationService {
         List<Long> propertyIdList = originalResponse.getPropertyIds();
         List<Property> detailedList = new ArrayList<>();
 
+        Map<Integer, Property> propertyMap = propertyService.getPropertyDetails(propertyIdList.stream()
+                .map(Math::toIntExact)
+                .collect(Collectors.toList()));
         for (Long propId : propertyIdList) {
-            try {
-                Property property = propertyService.getPropertyDetail(propId);
+            Property property = propertyMap.get(Math.toIntExact(propId));
+            if (property != null) {
                 detailedList.add(property);
-            } catch (PropertyNotFoundException ex) {
+            } else {
                 logger.warn("Property not found for id: {}", propId);
             }
         }
@@ -8,8 +8,8 @@ import co.elastic.clients.elasticsearch.core.search.Hit;
 import com.zeepseek.backend.domain.search.dto.SearchProperty;
 import com.zeepseek.backend.domain.search.dto.response.KeywordResponse;
 import com.zeepseek.backend.domain.zzim.document.DongZzimDoc;
-import com.zeepseek.backend.domain.zzim.document.PropertyZzimDoc;
-import com.zeepseek.backend.domain.zzim.service.ZzimService;
+import com.zeepseek.backend.domain.zzim.service.LikedSet;
+import com.zeepseek.backend.domain.zzim.service.LikedSetService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,7 +28,7 @@ import java.util.stream.Collectors;
 public class SearchService {
 
     private final ElasticsearchClient elasticsearchClient;
-    private final ZzimService zzimService;
+    private final LikedSetService likedSetService;
     /**
      * 키워드와 페이지네이션 정보를 받아 Elasticsearch에서 검색을 수행합니다.
      * @param keyword 검색어
@@ -94,20 +94,11 @@ public class SearchService {
                     .collect(Collectors.toList());
 
             if(userId != null) {
-                // 2. 사용자 찜 정보 불러오기
-                List<PropertyZzimDoc> propertyZzimDocs = zzimService.userSelectPropertyList(userId);
-
-                // 3. 찜한 매물의 ID를 Set으로 변환 (PropertyZzimDoc에는 propertyId 필드가 존재)
-                Set<Integer> likedPropertyIds = propertyZzimDocs.stream()
-                        .map(PropertyZzimDoc::getPropertyId)
-                        .collect(Collectors.toSet());
-
-                // 4. 각 검색 결과에 대해 사용자가 찜한 매물인지 isLiked 필드 설정
-                results.forEach(property -> {
-                    // SearchProperty 클래스의 propertyId 필드 사용
-                    boolean isLiked = likedPropertyIds.contains(property.getPropertyId());
-                    property.setLiked(isLiked);
-                });
+                // 2. 사용자 찜 집합 불러오기
+                LikedSet likedSet = likedSetService.get(userId);
+
+                // 3. 각 검색 결과에 대해 사용자가 찜한 매물인지 isLiked 필드 설정
+                likedSet.markProperties(results, SearchProperty::getPropertyId, SearchProperty::setLiked);
             }
 
             int totalHits = (int) searchResponse.hits().total().value();
@@ -185,20 +176,11 @@ public class SearchService {
                     .collect(Collectors.toList());
 
             if(userId != null) {
-                // 2. 사용자 찜 정보 불러오기
-                List<PropertyZzimDoc> propertyZzimDocs = zzimService.userSelectPropertyList(userId);
-
-                // 3. 찜한 매물의 ID를 Set으로 변환 (PropertyZzimDoc에는 propertyId 필드가 존재)
-                Set<Integer> likedPropertyIds = propertyZzimDocs.stream()
-                        .map(PropertyZzimDoc::getPropertyId)
-                        .collect(Collectors.toSet());
-
-                // 4. 각 검색 결과에 대해 사용자가 찜한 매물인지 isLiked 필드 설정
-                results.forEach(property -> {
-                    // SearchProperty 클래스의 propertyId 필드 사용
-                    boolean isLiked = likedPropertyIds.contains(property.getPropertyId());
-                    property.setLiked(isLiked);
-                });
+                // 2. 사용자 찜 집합 불러오기
+                LikedSet likedSet = likedSetService.get(userId);
+
+                // 3. 각 검색 결과에 대해 사용자가 찜한 매물인지 isLiked 필드 설정
+                likedSet.markProperties(results, SearchProperty::getPropertyId, SearchProperty::setLiked);
             }
 
             int totalHits = (int) searchResponse.hits().total().value();
@@ -11,4 +11,8 @@ public interface DongZzimRepository extends MongoRepository<DongZzimDoc, Integer
     long deleteByUserIdAndDongId(int userId, int dongId);
 
     List<DongZzimDoc> findAllByUserId(int userId); 
+
+    // 찜 여부 집합(LikedSetService) 구성용: dongId 만 조회
+    @Query(value = "{ 'userId': ?0 }", fields = "{ 'dongId': 1 }")
+    List<DongZzimDoc> findDongIdsByUserId(int userId);
 }
@@ -12,4 +12,8 @@ public interface PropertyZzimRepository extends MongoRepository<PropertyZzimDoc,
     long deleteByUserIdAndPropertyId(int userId, int propertyId);
 
     List<PropertyZzimDoc> findAllByUserId(int userId);
+
+    // 찜 여부 집합(LikedSetService) 구성용: propertyId 만 조회
+    @Query(value = "{ 'userId': ?0 }", fields = "{ 'propertyId': 1 }")
+    List<PropertyZzimDoc> findPropertyIdsByUserId(int userId);
 }
@@ -0,0 +1,94 @@
+package com.zeepseek.backend.domain.zzim.service;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 사용자 한 명의 찜 매물/동네 id 집합 (RoaringBitmap)
+ *
+ * 생성 후 변경하지 않으므로 L1 캐시에서 여러 요청이 그대로 공유해도 됩니다.
+ * 찜이 바뀌면 LikedSetService 가 새 LikedSet 으로 교체합니다.
+ */
+public final class LikedSet {
+
+    private static final LikedSet EMPTY = new LikedSet(new RoaringBitmap(), new RoaringBitmap());
+
+    private final RoaringBitmap propertyIds;
+    private final RoaringBitmap dongIds;
+
+    private LikedSet(RoaringBitmap propertyIds, RoaringBitmap dongIds) {
+        propertyIds.runOptimize();
+        dongIds.runOptimize();
+        this.propertyIds = propertyIds;
+        this.dongIds = dongIds;
+    }
+
+    public static LikedSet empty() {
+        return EMPTY;
+    }
+
+    public static LikedSet of(int[] propertyIds, int[] dongIds) {
+        return new LikedSet(RoaringBitmap.bitmapOf(propertyIds), RoaringBitmap.bitmapOf(dongIds));
+    }
+
+    public boolean isPropertyLiked(Integer propertyId) {
+        return propertyId != null && propertyIds.contains(propertyId);
+    }
+
+    public boolean isDongLiked(Integer dongId) {
+        return dongId != null && dongIds.contains(dongId);
+    }
+
+    public int propertyCount() {
+        return propertyIds.getCardinality();
+    }
+
+    public int dongCount() {
+        return dongIds.getCardinality();
+    }
+
+    /**
+     * 목록의 각 항목에 매물 찜 여부를 표시합니다. (항목을 직접 변경)
+     */
+    public <T> void markProperties(Collection<T> items, Function<T, Integer> propertyIdOf, BiConsumer<T, Boolean> setLiked) {
+        for (T item : items) {
+            setLiked.accept(item, isPropertyLiked(propertyIdOf.apply(item)));
+        }
+    }
+
+    /**
+     * Redis 저장 형식: [매물 비트맵][동 비트맵] (RoaringBitmap 표준 직렬화 형식을 이어 붙임)
+     */
+    byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(
+                propertyIds.serializedSizeInBytes() + dongIds.serializedSizeInBytes());
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            propertyIds.serialize(out);
+            dongIds.serialize(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static LikedSet fromBytes(byte[] data) {
+        RoaringBitmap properties = new RoaringBitmap();
+        RoaringBitmap dongs = new RoaringBitmap();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            properties.deserialize(in);
+            dongs.deserialize(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new LikedSet(properties, dongs);
+    }
+}
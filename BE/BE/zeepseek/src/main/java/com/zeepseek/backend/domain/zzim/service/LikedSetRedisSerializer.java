@@ -0,0 +1,33 @@
+package com.zeepseek.backend.domain.zzim.service;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * likedSets 캐시 값(LikedSet)을 JSON 대신 RoaringBitmap 바이트로 저장하는 직렬화기
+ */
+public class LikedSetRedisSerializer implements RedisSerializer<Object> {
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof LikedSet likedSet)) {
+            throw new SerializationException("LikedSet 이 아닌 값은 저장할 수 없습니다: " + value.getClass().getName());
+        }
+        return likedSet.toBytes();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return LikedSet.fromBytes(bytes);
+        } catch (RuntimeException e) {
+            throw new SerializationException("LikedSet 역직렬화 실패", e);
+        }
+    }
+}
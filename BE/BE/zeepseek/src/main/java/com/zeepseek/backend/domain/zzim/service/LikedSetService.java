@@ -0,0 +1,143 @@
+package com.zeepseek.backend.domain.zzim.service;
+
+import com.zeepseek.backend.domain.zzim.document.DongZzimDoc;
+import com.zeepseek.backend.domain.zzim.document.PropertyZzimDoc;
+import com.zeepseek.backend.domain.zzim.repository.DongZzimRepository;
+import com.zeepseek.backend.domain.zzim.repository.PropertyZzimRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 사용자별 찜 매물/동네 집합(LikedSet) 캐시
+ *
+ * - propertyCacheManager 의 likedSets 캐시(L1 Caffeine + L2 property redis)에 userId 별로 저장합니다.
+ * - 없으면 Mongo 에서 id 만 조회해 비트맵으로 만듭니다.
+ * - 찜 등록/삭제 후 ZzimService 가 evict 를 호출해 캐시를 지우고, 다음 조회가 Mongo 기준으로 다시 만듭니다.
+ *   (evict 가 다른 노드의 L1 무효화 메시지를 발행합니다)
+ * - evict 는 사용자별 세대(likedSets:gen:{userId}, property redis)를 먼저 올립니다.
+ *   찜 변경 전에 Mongo 를 읽은 적재가 evict 뒤에 끝나면 세대가 달라져 있으므로 저장하지 않거나(저장 전 확인)
+ *   저장한 것을 다시 지웁니다(저장 후 확인). 남는 틈은 L2 TTL(cache.redis.ttl.likedSets, 수 분)로 제한합니다.
+ * 캐시 조회 실패 시에는 Mongo 에서 바로 만들어 반환합니다.
+ */
+@Slf4j
+@Service
+public class LikedSetService {
+
+    private static final String CACHE_NAME = "likedSets";
+    private static final String GENERATION_KEY_PREFIX = "likedSets:gen:";
+    // 진행 중인 적재보다 충분히 길게만 유지하면 되므로 변경이 없는 사용자의 세대 키는 만료시킵니다.
+    private static final Duration GENERATION_TTL = Duration.ofHours(1);
+
+    private final DongZzimRepository dongZzimRepository;
+    private final PropertyZzimRepository propertyZzimRepository;
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+
+    public LikedSetService(DongZzimRepository dongZzimRepository,
+                           PropertyZzimRepository propertyZzimRepository,
+                           @Qualifier("propertyCacheManager") CacheManager cacheManager,
+                           StringRedisTemplate redisTemplate) {
+        this.dongZzimRepository = dongZzimRepository;
+        this.propertyZzimRepository = propertyZzimRepository;
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 사용자의 찜 집합 (비로그인 사용자는 빈 집합)
+     */
+    public LikedSet get(int userId) {
+        if (userId <= 0) {
+            return LikedSet.empty();
+        }
+        try {
+            Cache cache = cache();
+            LikedSet cached = cache.get(key(userId), LikedSet.class);
+            if (cached != null) {
+                return cached;
+            }
+            String generation = generation(userId);
+            LikedSet likedSet = load(userId);
+            // 세대를 읽지 못했거나(redis 장애) 적재 중에 찜이 바뀌었으면 저장하지 않습니다.
+            if (generation == null || !generation.equals(generation(userId))) {
+                return likedSet;
+            }
+            cache.put(key(userId), likedSet);
+            // 확인과 저장 사이에 들어온 변경의 evict 보다 저장이 늦었을 수 있으므로 한 번 더 확인합니다.
+            if (!generation.equals(generation(userId))) {
+                cache.evict(key(userId));
+            }
+            return likedSet;
+        } catch (RuntimeException e) {
+            log.warn("찜 집합 캐시 조회 실패, Mongo 에서 조회합니다. userId: {} ({})", userId, e.getMessage());
+            return load(userId);
+        }
+    }
+
+    public boolean isPropertyLiked(int userId, Integer propertyId) {
+        return get(userId).isPropertyLiked(propertyId);
+    }
+
+    public boolean isDongLiked(int userId, Integer dongId) {
+        return get(userId).isDongLiked(dongId);
+    }
+
+    /**
+     * 찜 변경 후 호출: 세대를 올린 뒤 L1 / L2 에서 지우고(다른 노드 L1 무효화 메시지 발행)
+     * 다음 조회 때 Mongo 기준으로 다시 만듭니다.
+     * 변경마다 다시 만들어 put 하면 동시에 들어온 두 변경의 적재가 순서가 바뀌어 끝날 때
+     * 이전 집합이 L2 TTL 동안 남을 수 있으므로 쓰기 경로에서는 저장하지 않습니다.
+     */
+    public void evict(int userId) {
+        try {
+            String generationKey = GENERATION_KEY_PREFIX + userId;
+            redisTemplate.opsForValue().increment(generationKey);
+            redisTemplate.expire(generationKey, GENERATION_TTL);
+        } catch (RuntimeException e) {
+            log.warn("찜 집합 세대 증가 실패. userId: {} ({})", userId, e.getMessage());
+        }
+        try {
+            cache().evict(key(userId));
+        } catch (RuntimeException e) {
+            log.warn("찜 집합 캐시 제거 실패. userId: {} ({})", userId, e.getMessage());
+        }
+    }
+
+    private LikedSet load(int userId) {
+        int[] propertyIds = propertyZzimRepository.findPropertyIdsByUserId(userId).stream()
+                .mapToInt(PropertyZzimDoc::getPropertyId)
+                .toArray();
+        int[] dongIds = dongZzimRepository.findDongIdsByUserId(userId).stream()
+                .mapToInt(DongZzimDoc::getDongId)
+                .toArray();
+        return LikedSet.of(propertyIds, dongIds);
+    }
+
+    /**
+     * 사용자의 현재 세대 (변경 이력이 없으면 "0"), 조회 실패 시 null
+     */
+    private String generation(int userId) {
+        try {
+            return Objects.requireNonNullElse(redisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + userId), "0");
+        } catch (RuntimeException e) {
+            log.warn("찜 집합 세대 조회 실패. userId: {} ({})", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    // 노드 간 L1 무효화는 키의 문자열 표현으로 전달되므로 문자열 키를 사용합니다.
+    private static String key(int userId) {
+        return String.valueOf(userId);
+    }
+}
@@ -17,6 +17,8 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -27,11 +29,13 @@ public class ZzimService {
     private final PropertyZzimRepository propertyZzimRepository;
     private final DongService dongService;
     private final PropertyService propertyService;
+    private final LikedSetService likedSetService;
 
     // 동네 찜 등록
     public ResponseEntity<?> zzimDong(int userId, int dongId) {
         try {
             dongZzimRepository.save(DongZzimDoc.builder().dongId(dongId).userId(userId).build());
+            likedSetService.evict(userId);
             return ResponseEntity.ok("찜 등록 성공!");
         } catch (Exception e) {
             e.printStackTrace();
@@ -43,6 +47,7 @@ public class ZzimService {
     public ResponseEntity<?> zzimProperty(int userId, int propertyId) {
         try {
             propertyZzimRepository.save(PropertyZzimDoc.builder().userId(userId).propertyId(propertyId).build());
+            likedSetService.evict(userId);
             return ResponseEntity.ok("찜 등록 성공!");
         } catch (Exception e) {
             e.printStackTrace();
@@ -54,6 +59,7 @@ public class ZzimService {
     public ResponseEntity<?> deleteDongZzim(int userId, int dongId) {
         try {
             dongZzimRepository.deleteByUserIdAndDongId(userId, dongId);
+            likedSetService.evict(userId);
             return ResponseEntity.ok("찜 삭제 성공!");
         } catch (Exception e) {
             e.printStackTrace();
@@ -65,6 +71,7 @@ public class ZzimService {
     public ResponseEntity<?> deletePropertyZzim(int userId, int propertyId) {
         try {
             propertyZzimRepository.deleteByUserIdAndPropertyId(userId, propertyId);
+            likedSetService.evict(userId);
             return ResponseEntity.ok("찜 삭제 성공!");
         } catch (Exception e) {
             e.printStackTrace();
@@ -111,15 +118,18 @@ public class ZzimService {
 
         List<PropertyZzimDoc> propertyZzimDocs = propertyZzimRepository.findAllByUserId(userId);
 
+        // 찜한 매물을 한 번에 조회 (찜 목록 순서 유지, 없는 매물은 제외)
+        Map<Integer, Property> propertyMap = propertyService.getPropertyDetails(propertyZzimDocs.stream()
+                .map(PropertyZzimDoc::getPropertyId)
+                .collect(Collectors.toList()));
+
         List<Property> properties = new ArrayList<>();
         for(PropertyZzimDoc propertyZzimDoc : propertyZzimDocs) {
-            try {
-                Property property = propertyService.getPropertyDetail((long) propertyZzimDoc.getPropertyId());
-                if(property != null) {
-                    properties.add(property);
-                }
-            } catch (Exception e) {
-                log.warn("찜: 해당 매물을 찾을 수 없습니다. {}", e);
+            Property property = propertyMap.get(propertyZzimDoc.getPropertyId());
+            if(property != null) {
+                properties.add(property);
+            } else {
+                log.warn("찜: 해당 매물을 찾을 수 없습니다. {}", propertyZzimDoc.getPropertyId());
             }
         }
 
@@ -130,16 +140,13 @@ public class ZzimService {
         // 모든 동 정보를 가져옴
         List<DongInfoDocs> dongInfoDocs = dongService.findAllDongsforZzim();
 
-        // 사용자가 좋아요한 동 리스트를 가져옴
-        List<DongZzimDoc> dongZzimDocs = userSelectDongList(userId);
+        // 사용자의 찜 집합
+        LikedSet likedSet = likedSetService.get(userId);
 
-        List<DongZzim> result = new ArrayList<>();
+        List<DongZzim> result = new ArrayList<>(dongInfoDocs.size());
         for (DongInfoDocs doc : dongInfoDocs) {
             int dongId = doc.getDongId();
-            // dongZzimDocs에서 dongId가 매치되는 것이 있으면 true, 없으면 false
-            boolean isLiked = dongZzimDocs.stream()
-                    .anyMatch(dongZzimDoc -> dongZzimDoc.getDongId() == dongId);
-            result.add(new DongZzim(dongId, isLiked));
+            result.add(new DongZzim(dongId, likedSet.isDongLiked(dongId)));
         }
         return result;
     }
@@ -0,0 +1,13 @@
+-- property.category_flags: 매물 타입 비트 플래그 (원룸 1, 주택 2, 오피스텔 4)
+-- STORED 생성 컬럼이므로 어떤 경로로 적재되든 INSERT/UPDATE 시점에 한 번만 계산됩니다.
+-- 판별 기준은 PropertyCategory 와 ES room_type_pipeline(computedRoomType) 과 동일합니다.
+-- ddl-auto=validate 이므로 애플리케이션 배포 전에 한 번 실행해야 합니다.
+
+ALTER TABLE property
+    ADD COLUMN category_flags TINYINT AS (
+        (CASE WHEN room_bath_count LIKE '1/%' OR room_bath_count LIKE '2/%' THEN 1 ELSE 0 END)
+        | (CASE WHEN room_type IN ('빌라', '단독/다가구') OR room_type LIKE '%주택%' THEN 2 ELSE 0 END)
+        | (CASE WHEN room_type = '오피스텔' THEN 4 ELSE 0 END)
+    ) STORED NOT NULL,
+    ADD INDEX idx_property_category_dong (category_flags, dong_id),
+    ADD INDEX idx_property_category_gu (category_flags, gu_name);
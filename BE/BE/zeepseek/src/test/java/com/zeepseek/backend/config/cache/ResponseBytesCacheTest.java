@@ -0,0 +1,107 @@
+package com.zeepseek.backend.config.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseBytesCacheTest {
+
+    private static final String ETAG = "\"p-3-17\"";
+    private static final String GZIP_ETAG = "\"p-3-17-gz\"";
+
+    private final ResponseBytesCache.EncodedBody body =
+            ResponseBytesCache.EncodedBody.of("{\"count\":3}".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void acceptsGzipFollowsQValues() {
+        assertFalse(ResponseBytesCache.acceptsGzip(null));
+        assertFalse(ResponseBytesCache.acceptsGzip("br, deflate"));
+        assertTrue(ResponseBytesCache.acceptsGzip("gzip, deflate, br"));
+        assertTrue(ResponseBytesCache.acceptsGzip("x-gzip;q=0.5"));
+        assertTrue(ResponseBytesCache.acceptsGzip("GZIP ; Q=0.8"));
+        assertFalse(ResponseBytesCache.acceptsGzip("gzip;q=0"));
+        assertFalse(ResponseBytesCache.acceptsGzip("gzip;q=0.0, deflate"));
+        // gzip 이 명시되지 않으면 * 를 따름
+        assertTrue(ResponseBytesCache.acceptsGzip("deflate, *"));
+        assertFalse(ResponseBytesCache.acceptsGzip("*;q=0"));
+        // 명시된 gzip 이 * 보다 우선
+        assertFalse(ResponseBytesCache.acceptsGzip("gzip;q=0, *"));
+        // 잘못된 q 값은 허용하지 않음
+        assertFalse(ResponseBytesCache.acceptsGzip("gzip;q=abc"));
+        assertFalse(ResponseBytesCache.acceptsGzip("gzip;q=2"));
+    }
+
+    @Test
+    void gzipEtagIsADistinctStrongValidator() {
+        assertEquals(GZIP_ETAG, ResponseBytesCache.gzipEtag(ETAG));
+    }
+
+    @Test
+    void respondsWithRawBytesWithoutGzip() {
+        ResponseEntity<byte[]> response = ResponseBytesCache.respond(body, MediaType.APPLICATION_JSON, ETAG,
+                null, "deflate");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(body.raw(), response.getBody());
+        assertEquals(ETAG, response.getHeaders().getETag());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), response.getHeaders().getVary());
+    }
+
+    @Test
+    void respondsWithGzipBytesAndGzipEtag() {
+        ResponseEntity<byte[]> response = ResponseBytesCache.respond(body, MediaType.APPLICATION_JSON, ETAG,
+                null, "gzip", HttpHeaders.ACCEPT);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(GZIP_ETAG, response.getHeaders().getETag());
+        assertEquals(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING), response.getHeaders().getVary());
+        assertArrayEquals(body.raw(), ResponseBytesCache.EncodedBody.ofGzip(response.getBody()).raw());
+    }
+
+    @Test
+    void notModifiedForEitherRepresentationCarriesTheSelectedEtag() {
+        ResponseEntity<byte[]> gzip = ResponseBytesCache.respond(body, MediaType.APPLICATION_JSON, ETAG,
+                ETAG, "gzip", HttpHeaders.ACCEPT);
+        assertEquals(HttpStatus.NOT_MODIFIED, gzip.getStatusCode());
+        assertNull(gzip.getBody());
+        assertEquals(GZIP_ETAG, gzip.getHeaders().getETag());
+        assertEquals(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING), gzip.getHeaders().getVary());
+
+        ResponseEntity<byte[]> raw = ResponseBytesCache.respond(body, MediaType.APPLICATION_JSON, ETAG,
+                "\"other\", " + GZIP_ETAG, null);
+        assertEquals(HttpStatus.NOT_MODIFIED, raw.getStatusCode());
+        assertEquals(ETAG, raw.getHeaders().getETag());
+    }
+
+    @Test
+    void staleOrMissingEtagRespondsWithBody() {
+        ResponseEntity<byte[]> stale = ResponseBytesCache.respond(body, MediaType.APPLICATION_JSON, ETAG,
+                "\"p-3-16\"", null);
+        assertEquals(HttpStatus.OK, stale.getStatusCode());
+
+        // 버전 조회 실패(etag null)면 검증 없이 200
+        ResponseEntity<byte[]> unversioned = ResponseBytesCache.respond(body, MediaType.APPLICATION_JSON, null,
+                "*", null);
+        assertEquals(HttpStatus.OK, unversioned.getStatusCode());
+        assertNull(unversioned.getHeaders().getETag());
+        assertArrayEquals(body.raw(), unversioned.getBody());
+    }
+
+    @Test
+    void weightCountsBothEncodings() {
+        assertEquals(body.raw().length + body.gzip().length, body.weight());
+    }
+}
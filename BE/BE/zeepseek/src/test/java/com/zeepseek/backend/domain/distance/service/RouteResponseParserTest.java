@@ -0,0 +1,77 @@
+package com.zeepseek.backend.domain.distance.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 샘플 응답(src/test/resources/route)은 실제 응답에서 좌표/구간 수만 줄인 것입니다.
+ */
+class RouteResponseParserTest {
+
+    @Test
+    void tmapSamplePayload() throws IOException {
+        try (InputStream in = resource("route/tmap-transit.json")) {
+            assertEquals(1874, RouteResponseParser.tmapTransitDuration(in));
+        }
+    }
+
+    @Test
+    void kakaoSamplePayload() throws IOException {
+        try (InputStream in = resource("route/kakao-directions.json")) {
+            assertEquals(1623, RouteResponseParser.kakaoDrivingDuration(in));
+        }
+    }
+
+    @Test
+    void tmapMissingPathReturnsNull() throws IOException {
+        assertNull(RouteResponseParser.tmapTransitDuration(json("{}")));
+        assertNull(RouteResponseParser.tmapTransitDuration(json("{\"metaData\":{\"plan\":{\"itineraries\":[]}}}")));
+        assertNull(RouteResponseParser.tmapTransitDuration(json("{\"metaData\":{\"plan\":{\"itineraries\":[{\"fare\":{}}]}}}")));
+        assertNull(RouteResponseParser.tmapTransitDuration(json("{\"result\":{\"status\":11,\"message\":\"경로 탐색 결과 없음\"}}")));
+    }
+
+    @Test
+    void tmapStringAndFloatValues() throws IOException {
+        assertEquals(600, RouteResponseParser.tmapTransitDuration(
+                json("{\"metaData\":{\"plan\":{\"itineraries\":[{\"totalTime\":\" 600 \"}]}}}")));
+        assertNull(RouteResponseParser.tmapTransitDuration(
+                json("{\"metaData\":{\"plan\":{\"itineraries\":[{\"totalTime\":600.5}]}}}")));
+        assertNull(RouteResponseParser.tmapTransitDuration(
+                json("{\"metaData\":{\"plan\":{\"itineraries\":[{\"totalTime\":\"abc\"}]}}}")));
+        assertNull(RouteResponseParser.tmapTransitDuration(
+                json("{\"metaData\":{\"plan\":{\"itineraries\":[{\"totalTime\":3000000000}]}}}")));
+    }
+
+    @Test
+    void kakaoPrefersTopLevelDurationRegardlessOfOrder() throws IOException {
+        assertEquals(100, RouteResponseParser.kakaoDrivingDuration(
+                json("{\"routes\":[{\"duration\":100,\"summary\":{\"duration\":200}}]}")));
+        assertEquals(100, RouteResponseParser.kakaoDrivingDuration(
+                json("{\"routes\":[{\"summary\":{\"distance\":5,\"duration\":200,\"fare\":{\"taxi\":1}},\"duration\":100}]}")));
+        assertEquals(200, RouteResponseParser.kakaoDrivingDuration(
+                json("{\"routes\":[{\"summary\":{\"duration\":200},\"sections\":[{\"duration\":300}]}]}")));
+    }
+
+    @Test
+    void kakaoMissingOrInvalidDuration() throws IOException {
+        assertNull(RouteResponseParser.kakaoDrivingDuration(json("{\"routes\":[]}")));
+        assertNull(RouteResponseParser.kakaoDrivingDuration(json("{\"routes\":[{\"result_code\":104,\"summary\":{}}]}")));
+        assertNull(RouteResponseParser.kakaoDrivingDuration(json("{\"routes\":[{\"summary\":{\"duration\":200.7}}]}")));
+        assertEquals(200, RouteResponseParser.kakaoDrivingDuration(json("{\"routes\":[{\"summary\":{\"duration\":\"200\"}}]}")));
+    }
+
+    private static InputStream resource(String path) {
+        return RouteResponseParserTest.class.getClassLoader().getResourceAsStream(path);
+    }
+
+    private static InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
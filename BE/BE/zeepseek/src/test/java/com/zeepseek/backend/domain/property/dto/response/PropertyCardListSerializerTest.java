@@ -0,0 +1,61 @@
+package com.zeepseek.backend.domain.property.dto.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zeepseek.backend.domain.zzim.service.LikedSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PropertyCardListSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<PropertyCardDto> cards = List.of(
+            card(1, "원룸", 50),
+            card(2, "오피스텔", 70));
+
+    @Test
+    void appendsLikedToEachCard() throws Exception {
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(
+                new PropertyCardList(cards, LikedSet.of(new int[]{2, 9}, new int[0]))));
+
+        assertTrue(json.isArray());
+        assertEquals(2, json.size());
+        assertEquals(1, json.get(0).get("propertyId").asInt());
+        assertEquals("원룸", json.get(0).get("roomType").asText());
+        assertEquals("역세권 원룸", json.get(0).get("description").asText());
+        assertEquals(50, json.get(0).get("monthlyRent").asInt());
+        assertFalse(json.get(0).get("liked").asBoolean());
+        assertEquals(2, json.get(1).get("propertyId").asInt());
+        assertTrue(json.get(1).get("liked").asBoolean());
+    }
+
+    @Test
+    void sameFieldsAsTheCardPlusLiked() throws Exception {
+        JsonNode card = objectMapper.valueToTree(cards.get(0));
+        JsonNode decorated = objectMapper.readTree(objectMapper.writeValueAsString(
+                new PropertyCardList(cards, null))).get(0);
+
+        assertEquals(card.size() + 1, decorated.size());
+        card.fields().forEachRemaining(field -> assertEquals(field.getValue(), decorated.get(field.getKey())));
+        assertFalse(decorated.get("liked").asBoolean());
+    }
+
+    @Test
+    void sharedCardsAreNotModified() throws Exception {
+        String before = objectMapper.writeValueAsString(cards);
+        objectMapper.writeValueAsString(new PropertyCardList(cards, LikedSet.of(new int[]{1, 2}, new int[0])));
+
+        assertEquals(before, objectMapper.writeValueAsString(cards));
+    }
+
+    private static PropertyCardDto card(int propertyId, String roomType, int monthlyRent) {
+        return new PropertyCardDto(propertyId, roomType, "월세", "1000/" + monthlyRent, "서울특별시 강남구",
+                "역세권 " + roomType, 1000, monthlyRent, 37.5, 127.0, "https://example.com/" + propertyId + ".jpg", 1);
+    }
+}
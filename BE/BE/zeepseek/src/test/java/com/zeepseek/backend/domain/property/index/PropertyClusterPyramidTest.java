@@ -0,0 +1,80 @@
+package com.zeepseek.backend.domain.property.index;
+
+import com.zeepseek.backend.domain.property.dto.response.PropertyClusterDto;
+import com.zeepseek.backend.domain.property.model.PropertyCategory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PropertyClusterPyramidTest {
+
+    private static final int MIN_ZOOM = 8;
+    private static final int MAX_ZOOM = 16;
+
+    @Test
+    void incrementalMergeMatchesFullBuild() {
+        Random random = new Random(42);
+        int n = 2000;
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        byte[] flags = new byte[n];
+        int[] rents = new int[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = 37.40 + random.nextDouble() * 0.3;
+            lngs[i] = 126.80 + random.nextDouble() * 0.4;
+            flags[i] = (byte) random.nextInt(8);
+            rents[i] = random.nextInt(10) == 0 ? -1 : random.nextInt(200);
+        }
+        // 뒤쪽 매물 일부는 기존 칸 밖(새 칸)에 추가
+        for (int i = n - 50; i < n; i++) {
+            lats[i] += 1.0;
+        }
+
+        int baseSize = 1500;
+        PropertyClusterPyramid full = PropertyClusterPyramid.build(lats, lngs, flags, rents, MIN_ZOOM, MAX_ZOOM);
+        PropertyClusterPyramid base = PropertyClusterPyramid.build(Arrays.copyOf(lats, baseSize),
+                Arrays.copyOf(lngs, baseSize), Arrays.copyOf(flags, baseSize), Arrays.copyOf(rents, baseSize),
+                MIN_ZOOM, MAX_ZOOM);
+        List<PropertyClusterDto> before = base.query(37.0, 39.0, 126.0, 128.0, MAX_ZOOM, PropertyCategory.ALL);
+        PropertyClusterPyramid merged = base.withPoints(lats, lngs, flags, rents, baseSize, n);
+
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            for (PropertyCategory category : PropertyCategory.values()) {
+                assertSameClusters(full.query(37.0, 39.0, 126.0, 128.0, zoom, category),
+                        merged.query(37.0, 39.0, 126.0, 128.0, zoom, category));
+            }
+        }
+        // 기존 피라미드는 그대로
+        assertSameClusters(before, base.query(37.0, 39.0, 126.0, 128.0, MAX_ZOOM, PropertyCategory.ALL));
+    }
+
+    @Test
+    void cellCountCoversTheQueriedRange() {
+        double cellSize = PropertyClusterPyramid.cellSizeOf(MAX_ZOOM);
+        assertEquals(1, PropertyClusterPyramid.cellCount(37.5, 37.5 + cellSize / 4, 127.0, 127.0 + cellSize / 4, MAX_ZOOM));
+        assertTrue(PropertyClusterPyramid.cellCount(-90, 90, -180, 180, MIN_ZOOM) > 100_000);
+    }
+
+    private static void assertSameClusters(List<PropertyClusterDto> expected, List<PropertyClusterDto> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            PropertyClusterDto e = expected.get(i);
+            PropertyClusterDto a = actual.get(i);
+            assertEquals(e.getCount(), a.getCount());
+            assertEquals(e.getMinMonthlyRent(), a.getMinMonthlyRent());
+            assertEquals(e.getLatitude(), a.getLatitude(), 1e-9);
+            assertEquals(e.getLongitude(), a.getLongitude(), 1e-9);
+            if (e.getAvgMonthlyRent() == null) {
+                assertNull(a.getAvgMonthlyRent());
+            } else {
+                assertEquals(e.getAvgMonthlyRent(), a.getAvgMonthlyRent(), 1e-9);
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.zeepseek.backend.domain.property.index;
+
+import com.zeepseek.backend.domain.property.dto.response.DongPropertyCountDto;
+import com.zeepseek.backend.domain.property.dto.response.GuPropertyCountDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyCountRollupDto;
+import com.zeepseek.backend.domain.property.model.PropertyCategory;
+import com.zeepseek.backend.domain.property.repository.PropertyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PropertyCountCubeTest {
+
+    // flags: 1 원룸, 2 주택, 4 오피스텔, 0 분류 없음 (all 에만 포함)
+    private static final List<PropertyCountRollupDto> ROWS = List.of(
+            row(1, "강남구", 1, 3, 10, 0x11L),
+            row(1, "강남구", 3, 2, 12, 0x22L),
+            row(2, "강남구", 4, 5, 20, 0x33L),
+            row(3, "서초구", 0, 1, 30, 0x44L));
+
+    private final PropertyRepository repository = mock(PropertyRepository.class);
+    private final List<PropertyCountsChangedEvent> events = new ArrayList<>();
+    private final PropertyCountCube cube = new PropertyCountCube(repository,
+            event -> events.add((PropertyCountsChangedEvent) event), new SimpleMeterRegistry());
+
+    @Test
+    void countsByDongAndGuPerCategory() {
+        when(repository.countRollupAfter(0)).thenReturn(ROWS);
+
+        assertEquals(Map.of(1, 5L, 2, 5L, 3, 1L), dongCounts(PropertyCategory.ALL));
+        assertEquals(Map.of(1, 5L), dongCounts(PropertyCategory.ONE_ROOM));
+        assertEquals(Map.of(1, 2L), dongCounts(PropertyCategory.HOUSE));
+        assertEquals(Map.of(2, 5L), dongCounts(PropertyCategory.OFFICE));
+        assertEquals(Map.of("강남구", 10L, "서초구", 1L), guCounts(PropertyCategory.ALL));
+
+        // 첫 집계는 모든 동/구가 바뀐 것으로 발행
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).isAll());
+    }
+
+    @Test
+    void refreshAddsRowsAfterTheLastPropertyId() {
+        when(repository.countRollupAfter(0)).thenReturn(ROWS);
+        cube.rebuild();
+        events.clear();
+
+        cube.refresh();
+        assertTrue(events.isEmpty());
+
+        when(repository.countRollupAfter(30)).thenReturn(List.of(row(2, "강남구", 4, 1, 31, 0x55L)));
+        cube.refresh();
+
+        assertEquals(Map.of(2, 6L), dongCounts(PropertyCategory.OFFICE));
+        assertEquals(Map.of("강남구", 11L, "서초구", 1L), guCounts(PropertyCategory.ALL));
+        assertEquals(1, events.size());
+        assertFalse(events.get(0).isAll());
+        assertEquals(Set.of(2), events.get(0).getDongIds());
+        assertEquals(Set.of("강남구"), events.get(0).getGuNames());
+    }
+
+    @Test
+    void rebuildPublishesOnlyChangedDongsAndGus() {
+        when(repository.countRollupAfter(0)).thenReturn(ROWS);
+        cube.rebuild();
+        events.clear();
+
+        cube.rebuild();
+        assertTrue(events.isEmpty());
+
+        // 개수는 같고 내용만 바뀐 동(2), 매물이 모두 삭제된 동(3)
+        when(repository.countRollupAfter(0)).thenReturn(List.of(
+                ROWS.get(0), ROWS.get(1), row(2, "강남구", 4, 5, 20, 0x99L)));
+        cube.rebuild();
+
+        assertEquals(Map.of(1, 5L, 2, 5L), dongCounts(PropertyCategory.ALL));
+        assertEquals(Map.of("강남구", 10L), guCounts(PropertyCategory.ALL));
+        assertEquals(1, events.size());
+        assertEquals(Set.of(2, 3), events.get(0).getDongIds());
+        assertEquals(Set.of("강남구", "서초구"), events.get(0).getGuNames());
+    }
+
+    @Test
+    void rowsWithoutDongOrGuAreKeptAsANullBucketFirst() {
+        when(repository.countRollupAfter(0)).thenReturn(List.of(
+                row(1, "강남구", 1, 3, 10, 0x11L),
+                row(null, null, 1, 2, 11, 0x22L),
+                row(null, "서초구", 0, 1, 12, 0x33L)));
+
+        List<DongPropertyCountDto> dongs = cube.countByDong(PropertyCategory.ALL);
+        assertNull(dongs.get(0).getDongId());
+        assertEquals(3L, (long) dongs.get(0).getPropertyCount());
+        assertEquals(2, dongs.size());
+        assertEquals(1, (int) dongs.get(1).getDongId());
+
+        List<GuPropertyCountDto> gus = cube.countByGu(PropertyCategory.ONE_ROOM);
+        assertNull(gus.get(0).getGuName());
+        assertEquals(2L, (long) gus.get(0).getPropertyCount());
+        assertEquals(2, gus.size());
+    }
+
+    @Test
+    void contentVersionFollowsCountsOnly() {
+        when(repository.countRollupAfter(0)).thenReturn(ROWS);
+        String version = cube.getContentVersion();
+
+        // 다른 노드(다른 인스턴스)라도 개수가 같으면 같은 값, 내용 체크섬은 영향 없음
+        PropertyCountCube other = new PropertyCountCube(repository, event -> { }, new SimpleMeterRegistry());
+        when(repository.countRollupAfter(0)).thenReturn(List.of(
+                ROWS.get(0), ROWS.get(1), row(2, "강남구", 4, 5, 20, 0x99L), ROWS.get(3)));
+        assertEquals(version, other.getContentVersion());
+
+        when(repository.countRollupAfter(30)).thenReturn(List.of(row(2, "강남구", 4, 1, 31, 0x55L)));
+        cube.refresh();
+        assertNotEquals(version, cube.getContentVersion());
+    }
+
+    private Map<Integer, Long> dongCounts(PropertyCategory category) {
+        Map<Integer, Long> counts = new TreeMap<>();
+        for (DongPropertyCountDto dto : cube.countByDong(category)) {
+            counts.put(dto.getDongId(), dto.getPropertyCount());
+        }
+        return counts;
+    }
+
+    private Map<String, Long> guCounts(PropertyCategory category) {
+        Map<String, Long> counts = new TreeMap<>();
+        for (GuPropertyCountDto dto : cube.countByGu(category)) {
+            counts.put(dto.getGuName(), dto.getPropertyCount());
+        }
+        return counts;
+    }
+
+    private static PropertyCountRollupDto row(Integer dongId, String guName, int flags, long count, int maxPropertyId,
+                                              long checksum) {
+        return new PropertyCountRollupDto() {
+            @Override
+            public Integer getDongId() {
+                return dongId;
+            }
+
+            @Override
+            public String getGuName() {
+                return guName;
+            }
+
+            @Override
+            public Integer getCategoryFlags() {
+                return flags;
+            }
+
+            @Override
+            public Long getPropertyCount() {
+                return count;
+            }
+
+            @Override
+            public Integer getMaxPropertyId() {
+                return maxPropertyId;
+            }
+
+            @Override
+            public Long getChecksum() {
+                return checksum;
+            }
+        };
+    }
+}
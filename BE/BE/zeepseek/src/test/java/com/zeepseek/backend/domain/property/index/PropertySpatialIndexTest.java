@@ -0,0 +1,206 @@
+package com.zeepseek.backend.domain.property.index;
+
+import com.zeepseek.backend.domain.distance.service.DistanceService;
+import com.zeepseek.backend.domain.property.dto.request.CellBoundsDto;
+import com.zeepseek.backend.domain.property.dto.response.PropertyPointDto;
+import com.zeepseek.backend.domain.property.model.PropertyCategory;
+import com.zeepseek.backend.domain.property.repository.PropertyRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PropertySpatialIndexTest {
+
+    private static final double CELL_SIZE = 0.01;
+    private static final CellBoundsDto AREA = new CellBoundsDto(33.0, 38.7, 124.5, 132.0);
+    private static final long MAX_BUCKETS = 4_000_000;
+
+    // 1: 원룸, 2: 주택, 3: 오피스텔, 4: 원룸+주택(월세 없음)
+    private static final List<PropertyPointDto> POINTS = List.of(
+            point(1, 37.500, 127.000, 1, 50),
+            point(2, 37.505, 127.005, 2, 70),
+            point(3, 37.520, 127.030, 4, 90),
+            point(4, 37.550, 127.050, 3, null));
+
+    private final PropertySpatialIndex.Snapshot snapshot =
+            PropertySpatialIndex.Snapshot.build(POINTS, null, CELL_SIZE, AREA, MAX_BUCKETS, 8, 16, 1L);
+
+    @Test
+    void queryIsHalfOpenAndFiltersByCategory() {
+        assertArrayEquals(new int[]{1, 2}, sorted(snapshot.query(37.499, 37.506, 126.999, 127.006, PropertyCategory.ALL)));
+        assertArrayEquals(new int[]{1}, sorted(snapshot.query(37.499, 37.506, 126.999, 127.006, PropertyCategory.ONE_ROOM)));
+        // max 경계에 있는 매물(2)은 제외
+        assertArrayEquals(new int[]{1}, sorted(snapshot.query(37.500, 37.505, 127.000, 127.005, PropertyCategory.ALL)));
+        assertArrayEquals(new int[]{2, 4}, sorted(snapshot.query(37.0, 38.0, 126.0, 128.0, PropertyCategory.HOUSE)));
+    }
+
+    @Test
+    void queryOutsideOrAcrossGridBounds() {
+        assertEquals(0, snapshot.query(10.0, 11.0, 100.0, 101.0, PropertyCategory.ALL).length);
+        assertArrayEquals(new int[]{1, 2, 3, 4}, sorted(snapshot.query(-90, 90, -180, 180, PropertyCategory.ALL)));
+        // 뒤집힌 범위
+        assertEquals(0, snapshot.query(37.6, 37.4, 126.9, 127.1, PropertyCategory.ALL).length);
+    }
+
+    @Test
+    void incrementalBuildKeepsBasePoints() {
+        PropertySpatialIndex.Snapshot next = PropertySpatialIndex.Snapshot.build(
+                List.of(point(7, 37.600, 127.100, 1, 40)), snapshot, CELL_SIZE, AREA, MAX_BUCKETS, 8, 16, 2L);
+
+        assertEquals(5, next.size());
+        assertEquals(7, next.maxPropertyId);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 7}, sorted(next.query(-90, 90, -180, 180, PropertyCategory.ALL)));
+    }
+
+    @Test
+    void pointsOutsideTheServiceAreaAreSkipped() {
+        List<PropertyPointDto> points = new ArrayList<>(POINTS);
+        points.add(point(9, 0.0, 0.0, 1, 10));
+        points.add(point(8, Double.NaN, 127.0, 1, 10));
+        PropertySpatialIndex.Snapshot withBadRows = PropertySpatialIndex.Snapshot.build(
+                points, null, CELL_SIZE, AREA, MAX_BUCKETS, 8, 16, 1L);
+
+        assertEquals(4, withBadRows.size());
+        assertEquals(snapshot.rows, withBadRows.rows);
+        assertEquals(snapshot.cols, withBadRows.cols);
+        // 제외한 매물도 maxPropertyId 에는 반영 (증분 적재에서 다시 조회하지 않음)
+        assertEquals(9, withBadRows.maxPropertyId);
+    }
+
+    @Test
+    void bucketCountIsCappedByGrowingTheCellSize() {
+        PropertySpatialIndex.Snapshot capped = PropertySpatialIndex.Snapshot.build(
+                POINTS, null, CELL_SIZE, AREA, 4, 8, 16, 1L);
+
+        assertTrue((long) capped.rows * capped.cols <= 4);
+        assertTrue(capped.cellSize > CELL_SIZE);
+        assertArrayEquals(new int[]{1, 2}, sorted(capped.query(37.499, 37.506, 126.999, 127.006, PropertyCategory.ALL)));
+        assertArrayEquals(new int[]{1, 2}, capped.nearest(37.500, 127.000, 2, PropertyCategory.ALL,
+                Integer.MIN_VALUE, Integer.MAX_VALUE, false, Double.MAX_VALUE).getIds());
+    }
+
+    @Test
+    void nearestOrdersByDistance() {
+        NearestProperties nearest = snapshot.nearest(37.500, 127.000, 2, PropertyCategory.ALL,
+                Integer.MIN_VALUE, Integer.MAX_VALUE, false, Double.MAX_VALUE);
+
+        assertArrayEquals(new int[]{1, 2}, nearest.getIds());
+        assertEquals(0.0, nearest.getDistancesKm()[0], 1e-9);
+        assertEquals(DistanceService.haversine(37.500, 127.000, 37.505, 127.005), nearest.getDistancesKm()[1], 1e-9);
+    }
+
+    @Test
+    void nearestAppliesCategoryRentAndRadius() {
+        assertArrayEquals(new int[]{3}, snapshot.nearest(37.500, 127.000, 5, PropertyCategory.OFFICE,
+                Integer.MIN_VALUE, Integer.MAX_VALUE, false, Double.MAX_VALUE).getIds());
+        // 월세가 없는 매물(4)은 월세 조건이 있으면 제외
+        assertArrayEquals(new int[]{2, 3}, snapshot.nearest(37.500, 127.000, 5, PropertyCategory.ALL,
+                60, Integer.MAX_VALUE, true, Double.MAX_VALUE).getIds());
+        assertArrayEquals(new int[]{1, 2}, snapshot.nearest(37.500, 127.000, 5, PropertyCategory.ALL,
+                Integer.MIN_VALUE, Integer.MAX_VALUE, false, 1.0).getIds());
+    }
+
+    @Test
+    void nearestFromOutsideTheGrid() {
+        assertArrayEquals(new int[]{1, 2, 3, 4}, snapshot.nearest(37.0, 126.5, 4, PropertyCategory.ALL,
+                Integer.MIN_VALUE, Integer.MAX_VALUE, false, Double.MAX_VALUE).getIds());
+        assertArrayEquals(new int[]{4}, snapshot.nearest(38.0, 127.5, 1, PropertyCategory.ALL,
+                Integer.MIN_VALUE, Integer.MAX_VALUE, false, Double.MAX_VALUE).getIds());
+        assertEquals(0, snapshot.nearest(37.0, 126.5, 4, PropertyCategory.ALL,
+                Integer.MIN_VALUE, Integer.MAX_VALUE, false, 1.0).size());
+    }
+
+    @Test
+    void withinWalkingTimeSortsBySeconds() {
+        CommuteProperties commute = snapshot.withinWalkingTime(37.500, 127.000, 600, PropertyCategory.ALL);
+
+        int expected = DistanceService.calculateWalkingTime(DistanceService.haversine(37.500, 127.000, 37.505, 127.005));
+        assertArrayEquals(new int[]{1, 2}, commute.getIds());
+        assertArrayEquals(new int[]{0, expected}, commute.getWalkingSeconds());
+        assertEquals(0, snapshot.withinWalkingTime(37.500, 127.000, 600, PropertyCategory.OFFICE).size());
+        assertEquals(0, snapshot.withinWalkingTime(0.0, 0.0, 600, PropertyCategory.ALL).size());
+    }
+
+    @Test
+    void deltaBetweenViewportsOfTheSameVersion() {
+        PropertyRepository repository = mock(PropertyRepository.class);
+        when(repository.findPointsAfter(0)).thenReturn(POINTS);
+        when(repository.findPointsAfter(4)).thenReturn(List.of(point(5, 37.501, 127.001, 1, 30)));
+        PropertySpatialIndex index = new PropertySpatialIndex(repository, event -> { }, CELL_SIZE,
+                33.0, 38.7, 124.5, 132.0, MAX_BUCKETS, 8, 16);
+
+        assertNull(index.delta(null, bounds(37.49, 37.51, 126.99, 127.01), null, PropertyCategory.ALL));
+        index.reload();
+        long version = index.getVersion();
+
+        CellBoundsDto aroundFirst = bounds(37.499, 37.501, 126.999, 127.001);
+        CellBoundsDto aroundFirstTwo = bounds(37.499, 37.506, 126.999, 127.006);
+        CellBoundsDto aroundThird = bounds(37.515, 37.525, 127.025, 127.035);
+
+        ViewportDelta zoomOut = index.delta(aroundFirst, aroundFirstTwo, version, PropertyCategory.ALL);
+        assertFalse(zoomOut.isFull());
+        assertArrayEquals(new int[]{2}, zoomOut.getAddedIds());
+        assertArrayEquals(new int[0], zoomOut.getRemovedIds());
+
+        ViewportDelta pan = index.delta(aroundFirstTwo, aroundThird, version, PropertyCategory.ALL);
+        assertArrayEquals(new int[]{3}, pan.getAddedIds());
+        assertArrayEquals(new int[]{1, 2}, pan.getRemovedIds());
+
+        // 이전 뷰포트가 없거나 버전이 바뀌면 전체 목록
+        assertTrue(index.delta(null, aroundFirstTwo, version, PropertyCategory.ALL).isFull());
+        index.refresh();
+        ViewportDelta stale = index.delta(aroundFirst, aroundFirstTwo, version, PropertyCategory.ALL);
+        assertTrue(stale.isFull());
+        assertEquals(version + 1, stale.getVersion());
+        assertArrayEquals(new int[]{1, 2, 5}, sorted(stale.getAddedIds()));
+    }
+
+    private static int[] sorted(int[] ids) {
+        int[] copy = ids.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    private static CellBoundsDto bounds(double minLat, double maxLat, double minLng, double maxLng) {
+        return new CellBoundsDto(minLat, maxLat, minLng, maxLng);
+    }
+
+    private static PropertyPointDto point(int id, double lat, double lng, int flags, Integer monthlyRent) {
+        return new PropertyPointDto() {
+            @Override
+            public Integer getPropertyId() {
+                return id;
+            }
+
+            @Override
+            public Double getLatitude() {
+                return lat;
+            }
+
+            @Override
+            public Double getLongitude() {
+                return lng;
+            }
+
+            @Override
+            public Integer getCategoryFlags() {
+                return flags;
+            }
+
+            @Override
+            public Integer getMonthlyRent() {
+                return monthlyRent;
+            }
+        };
+    }
+}